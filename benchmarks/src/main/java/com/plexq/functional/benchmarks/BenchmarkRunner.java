@@ -0,0 +1,30 @@
+package com.plexq.functional.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs every suite, or those matching the regular expressions given as arguments, with the GC profiler attached so
+ * that allocation rate per operation is reported next to the timings.
+ *
+ *   java -jar target/benchmarks.jar              runs everything
+ *   java -jar target/benchmarks.jar MapBenchmark runs only the map suite
+ *
+ * For the full JMH command line (-p, -prof, -rf json ...) use org.openjdk.jmh.Main as the main class instead.
+ */
+public final class BenchmarkRunner {
+    public static void main(String[] args) throws RunnerException {
+        OptionsBuilder options = new OptionsBuilder();
+        if (args.length == 0) {
+            options.include("com\\.plexq\\.functional\\.benchmarks\\..*");
+        }
+        for (String arg : args) {
+            options.include(arg);
+        }
+        Options opts = options.addProfiler(GCProfiler.class).build();
+        new Runner(opts).run();
+    }
+}
@@ -0,0 +1,64 @@
+package com.plexq.functional.benchmarks;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.plexq.functional.Functional;
+
+/**
+ * Each element expands to zero, one or two results, so the output is roughly the same size as the input.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EFlatMapBenchmark extends ListState {
+    private List<Integer> input;
+
+    private static List<Integer> expand(Integer x) throws Exception {
+        if (x < 0) {
+            throw new Exception("Negative input " + x);
+        }
+        switch (x % 3) {
+            case 0: return Collections.emptyList();
+            case 1: return Collections.singletonList(x);
+            default: return Arrays.asList(x, x);
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setup() {
+        input = fill(Integer::valueOf);
+    }
+
+    @Benchmark
+    public List<Integer> eFlatMap() {
+        return Functional.eFlatMap(input, EFlatMapBenchmark::expand);
+    }
+
+    @Benchmark
+    public List<Integer> loopBaseline() throws Exception {
+        List<Integer> r = new ArrayList<>();
+        for (Integer x : input) {
+            r.addAll(expand(x));
+        }
+        return r;
+    }
+}
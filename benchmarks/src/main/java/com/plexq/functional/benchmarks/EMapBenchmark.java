@@ -0,0 +1,66 @@
+package com.plexq.functional.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.plexq.functional.ExceptionalFunction;
+import com.plexq.functional.Functional;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EMapBenchmark extends ListState {
+    private List<Integer> input;
+
+    private static Integer increment(Integer x) throws Exception {
+        if (x < 0) {
+            throw new Exception("Negative input " + x);
+        }
+        return x + 1;
+    }
+
+    @Setup(Level.Trial)
+    public void setup() {
+        input = fill(Integer::valueOf);
+    }
+
+    @Benchmark
+    public List<Integer> eMap() {
+        return Functional.eMap(input, EMapBenchmark::increment);
+    }
+
+    @Benchmark
+    public List<Integer> loopBaseline() throws Exception {
+        List<Integer> r = new ArrayList<>();
+        for (Integer x : input) {
+            r.add(increment(x));
+        }
+        return r;
+    }
+
+    @Benchmark
+    public List<Integer> loopBaselineThroughWrapper() {
+        ExceptionalFunction<Integer, Integer> f = EMapBenchmark::increment;
+        List<Integer> r = new ArrayList<>();
+        for (Integer x : input) {
+            r.add(f.apply(x));
+        }
+        return r;
+    }
+}
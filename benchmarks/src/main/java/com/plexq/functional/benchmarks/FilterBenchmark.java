@@ -0,0 +1,58 @@
+package com.plexq.functional.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.plexq.functional.Functional;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FilterBenchmark extends ListState {
+    private final Predicate<Integer> even = x -> (x & 1) == 0;
+
+    private List<Integer> input;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        input = fill(Integer::valueOf);
+    }
+
+    @Benchmark
+    public List<Integer> filter() {
+        return Functional.filter(input, even);
+    }
+
+    @Benchmark
+    public List<Integer> eFilter() {
+        return Functional.eFilter(input, x -> (x & 1) == 0);
+    }
+
+    @Benchmark
+    public List<Integer> loopBaseline() {
+        List<Integer> r = new ArrayList<>();
+        for (Integer x : input) {
+            if (even.test(x)) {
+                r.add(x);
+            }
+        }
+        return r;
+    }
+}
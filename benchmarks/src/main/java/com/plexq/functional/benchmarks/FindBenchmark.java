@@ -0,0 +1,61 @@
+package com.plexq.functional.benchmarks;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.plexq.functional.Functional;
+
+/**
+ * Worst case find: the only match is the last element, so every implementation has to visit the whole list.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FindBenchmark extends ListState {
+    private List<Integer> input;
+    private Predicate<Integer> isLast;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        input = fill(Integer::valueOf);
+        int last = size - 1;
+        isLast = x -> x == last;
+    }
+
+    @Benchmark
+    public Optional<Integer> find() {
+        return Functional.find(input, isLast);
+    }
+
+    @Benchmark
+    public Optional<Integer> eFind() {
+        return Functional.eFind(input, isLast::test);
+    }
+
+    @Benchmark
+    public Optional<Integer> loopBaseline() {
+        for (Integer x : input) {
+            if (isLast.test(x)) {
+                return Optional.of(x);
+            }
+        }
+        return Optional.empty();
+    }
+}
@@ -0,0 +1,83 @@
+package com.plexq.functional.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.plexq.functional.Functional;
+
+/**
+ * Covers all three flatMap overloads.  The Optional producing function keeps even elements only, so half of the
+ * elements take the empty path.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FlatMapBenchmark extends ListState {
+    private final Function<Integer, Optional<Integer>> evenOnly = x -> (x & 1) == 0 ? Optional.of(x) : Optional.empty();
+
+    private List<Integer> input;
+    private Optional<List<Integer>> wrapped;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        input = fill(Integer::valueOf);
+        wrapped = Optional.of(input);
+    }
+
+    @Benchmark
+    public List<Integer> flatMapList() {
+        return Functional.flatMap(input, evenOnly);
+    }
+
+    @Benchmark
+    public List<Integer> flatMapStream() {
+        return Functional.flatMap(input.stream(), evenOnly).collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<Integer> flatMapOptional() {
+        return Functional.flatMap(wrapped, Function.identity());
+    }
+
+    @Benchmark
+    public List<Integer> loopBaseline() {
+        List<Integer> r = new ArrayList<>();
+        for (Integer x : input) {
+            Optional<Integer> o = evenOnly.apply(x);
+            if (o.isPresent()) {
+                r.add(o.get());
+            }
+        }
+        return r;
+    }
+
+    @Benchmark
+    public List<Integer> loopBaselineOptional() {
+        List<Integer> r = new ArrayList<>();
+        if (wrapped.isPresent()) {
+            for (Integer x : wrapped.get()) {
+                r.add(x);
+            }
+        }
+        return r;
+    }
+}
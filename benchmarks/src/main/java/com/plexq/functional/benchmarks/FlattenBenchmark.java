@@ -0,0 +1,54 @@
+package com.plexq.functional.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.plexq.functional.Functional;
+
+/**
+ * Every other element is empty, so the result is half the size of the input.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FlattenBenchmark extends ListState {
+    private List<Optional<Integer>> input;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        input = fill(x -> (x & 1) == 0 ? Optional.of(x) : Optional.empty());
+    }
+
+    @Benchmark
+    public List<Integer> flatten() {
+        return Functional.flatten(input);
+    }
+
+    @Benchmark
+    public List<Integer> loopBaseline() {
+        List<Integer> r = new ArrayList<>();
+        for (Optional<Integer> x : input) {
+            if (x.isPresent()) {
+                r.add(x.get());
+            }
+        }
+        return r;
+    }
+}
@@ -0,0 +1,32 @@
+package com.plexq.functional.benchmarks;
+
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.function.IntFunction;
+
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Shared parameter space for every suite: list sizes from ten elements to ten million, backed either by a
+ * RandomAccess ArrayList or a LinkedList.  Each suite subclasses this and builds only the inputs it needs in its own
+ * trial level setup, so a 10M LinkedList of Optionals is never allocated just to benchmark map.
+ */
+@State(Scope.Benchmark)
+public abstract class ListState {
+    @Param({"10", "1000", "100000", "10000000"})
+    public int size;
+
+    @Param({"ArrayList", "LinkedList"})
+    public String listType;
+
+    protected <A> List<A> fill(IntFunction<A> f) {
+        List<A> r = "LinkedList".equals(listType) ? new LinkedList<>() : new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            r.add(f.apply(i));
+        }
+        return r;
+    }
+}
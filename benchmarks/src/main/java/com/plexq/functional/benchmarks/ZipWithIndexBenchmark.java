@@ -0,0 +1,52 @@
+package com.plexq.functional.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.plexq.functional.Functional;
+import com.plexq.functional.Tuple;
+
+/**
+ * zipWithIndex walks a sequential list once with its iterator, so the LinkedList runs of this suite are linear like
+ * the ArrayList ones; the gap between the two is the cost of iterating linked nodes rather than an array.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ZipWithIndexBenchmark extends ListState {
+    private List<String> input;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        input = fill(Integer::toString);
+    }
+
+    @Benchmark
+    public void zipWithIndex(Blackhole bh) {
+        Functional.zipWithIndex(input).forEach(bh::consume);
+    }
+
+    @Benchmark
+    public void loopBaseline(Blackhole bh) {
+        int i = 0;
+        for (String x : input) {
+            bh.consume(Tuple.tuple(i++, x));
+        }
+    }
+}
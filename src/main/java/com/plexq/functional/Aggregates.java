@@ -0,0 +1,257 @@
+package com.plexq.functional;
+
+import java.util.OptionalDouble;
+import java.util.OptionalInt;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+import java.util.stream.Collector;
+
+import com.plexq.functional.Tuple.Tuple2;
+import com.plexq.functional.Tuple.Tuple3;
+
+/**
+ * Collectors for computing several aggregates in one pass, as Collectors.teeing does from Java 12 on, plus primitive
+ * sum, min, max and count collectors which keep their running state in primitive fields, so nothing is boxed per
+ * element; only the final result is boxed.
+ *
+ * Every collector here has a combiner, so all of them, including the combinations, are safe on parallel streams.
+ */
+public final class Aggregates {
+    private Aggregates() {
+    }
+
+    /**
+     * Feed every element to both collectors, finishing with a Tuple2 of their results.
+     */
+    public static <A, R1, R2> Collector<A, ?, Tuple2<R1, R2>> both(Collector<? super A, ?, R1> c1,
+            Collector<? super A, ?, R2> c2) {
+        return pair(c1, c2);
+    }
+
+    /**
+     * Feed every element to all three collectors, finishing with a Tuple3 of their results.
+     */
+    public static <A, R1, R2, R3> Collector<A, ?, Tuple3<R1, R2, R3>> all(Collector<? super A, ?, R1> c1,
+            Collector<? super A, ?, R2> c2, Collector<? super A, ?, R3> c3) {
+        return triple(c1, c2, c3);
+    }
+
+    private static <A, S1, S2, R1, R2> Collector<A, Tuple2<S1, S2>, Tuple2<R1, R2>> pair(
+            Collector<? super A, S1, R1> c1, Collector<? super A, S2, R2> c2) {
+        Supplier<S1> s1 = c1.supplier();
+        Supplier<S2> s2 = c2.supplier();
+        BiConsumer<S1, ? super A> a1 = c1.accumulator();
+        BiConsumer<S2, ? super A> a2 = c2.accumulator();
+        BinaryOperator<S1> m1 = c1.combiner();
+        BinaryOperator<S2> m2 = c2.combiner();
+        Function<S1, R1> f1 = c1.finisher();
+        Function<S2, R2> f2 = c2.finisher();
+        return Collector.of(
+                () -> Tuple.tuple(s1.get(), s2.get()),
+                (s, a) -> {
+                    a1.accept(s._1, a);
+                    a2.accept(s._2, a);
+                },
+                (x, y) -> Tuple.tuple(m1.apply(x._1, y._1), m2.apply(x._2, y._2)),
+                s -> Tuple.tuple(f1.apply(s._1), f2.apply(s._2)),
+                characteristics(c1.characteristics(), c2.characteristics()));
+    }
+
+    private static <A, S1, S2, S3, R1, R2, R3> Collector<A, Tuple3<S1, S2, S3>, Tuple3<R1, R2, R3>> triple(
+            Collector<? super A, S1, R1> c1, Collector<? super A, S2, R2> c2, Collector<? super A, S3, R3> c3) {
+        Supplier<S1> s1 = c1.supplier();
+        Supplier<S2> s2 = c2.supplier();
+        Supplier<S3> s3 = c3.supplier();
+        BiConsumer<S1, ? super A> a1 = c1.accumulator();
+        BiConsumer<S2, ? super A> a2 = c2.accumulator();
+        BiConsumer<S3, ? super A> a3 = c3.accumulator();
+        BinaryOperator<S1> m1 = c1.combiner();
+        BinaryOperator<S2> m2 = c2.combiner();
+        BinaryOperator<S3> m3 = c3.combiner();
+        Function<S1, R1> f1 = c1.finisher();
+        Function<S2, R2> f2 = c2.finisher();
+        Function<S3, R3> f3 = c3.finisher();
+        return Collector.of(
+                () -> Tuple.tuple(s1.get(), s2.get(), s3.get()),
+                (s, a) -> {
+                    a1.accept(s._1, a);
+                    a2.accept(s._2, a);
+                    a3.accept(s._3, a);
+                },
+                (x, y) -> Tuple.tuple(m1.apply(x._1, y._1), m2.apply(x._2, y._2), m3.apply(x._3, y._3)),
+                s -> Tuple.tuple(f1.apply(s._1), f2.apply(s._2), f3.apply(s._3)),
+                characteristics(c1.characteristics(), c2.characteristics(), c3.characteristics()));
+    }
+
+    /**
+     * A combination is only unordered if every part is; it is never concurrent, since the shared state is a tuple,
+     * and never an identity finish, since it always builds a result tuple.
+     */
+    @SafeVarargs
+    private static Collector.Characteristics[] characteristics(Set<Collector.Characteristics>... parts) {
+        for (Set<Collector.Characteristics> part : parts) {
+            if (!part.contains(Collector.Characteristics.UNORDERED)) {
+                return new Collector.Characteristics[0];
+            }
+        }
+        return new Collector.Characteristics[] { Collector.Characteristics.UNORDERED };
+    }
+
+    //
+    // Primitive aggregates
+    //
+
+    private static final class IntState {
+        boolean present;
+        int value;
+    }
+
+    private static final class LongState {
+        boolean present;
+        long value;
+    }
+
+    private static final class DoubleState {
+        boolean present;
+        double value;
+    }
+
+    public static <A> Collector<A, ?, Long> count() {
+        return Collector.of(
+                LongState::new,
+                (s, a) -> s.value++,
+                (x, y) -> {
+                    x.value += y.value;
+                    return x;
+                },
+                s -> s.value,
+                Collector.Characteristics.UNORDERED);
+    }
+
+    /**
+     * Sum of int values, accumulated as a long so that it cannot overflow for fewer than 2^32 elements.
+     */
+    public static <A> Collector<A, ?, Long> sumInt(ToIntFunction<? super A> f) {
+        return Collector.of(
+                LongState::new,
+                (s, a) -> s.value += f.applyAsInt(a),
+                (x, y) -> {
+                    x.value += y.value;
+                    return x;
+                },
+                s -> s.value,
+                Collector.Characteristics.UNORDERED);
+    }
+
+    public static <A> Collector<A, ?, Long> sumLong(ToLongFunction<? super A> f) {
+        return Collector.of(
+                LongState::new,
+                (s, a) -> s.value += f.applyAsLong(a),
+                (x, y) -> {
+                    x.value += y.value;
+                    return x;
+                },
+                s -> s.value,
+                Collector.Characteristics.UNORDERED);
+    }
+
+    public static <A> Collector<A, ?, Double> sumDouble(ToDoubleFunction<? super A> f) {
+        return Collector.of(
+                DoubleState::new,
+                (s, a) -> s.value += f.applyAsDouble(a),
+                (x, y) -> {
+                    x.value += y.value;
+                    return x;
+                },
+                s -> s.value,
+                Collector.Characteristics.UNORDERED);
+    }
+
+    public static <A> Collector<A, ?, OptionalInt> minInt(ToIntFunction<? super A> f) {
+        return intExtreme(f, true);
+    }
+
+    public static <A> Collector<A, ?, OptionalInt> maxInt(ToIntFunction<? super A> f) {
+        return intExtreme(f, false);
+    }
+
+    public static <A> Collector<A, ?, OptionalLong> minLong(ToLongFunction<? super A> f) {
+        return longExtreme(f, true);
+    }
+
+    public static <A> Collector<A, ?, OptionalLong> maxLong(ToLongFunction<? super A> f) {
+        return longExtreme(f, false);
+    }
+
+    public static <A> Collector<A, ?, OptionalDouble> minDouble(ToDoubleFunction<? super A> f) {
+        return doubleExtreme(f, true);
+    }
+
+    public static <A> Collector<A, ?, OptionalDouble> maxDouble(ToDoubleFunction<? super A> f) {
+        return doubleExtreme(f, false);
+    }
+
+    private static <A> Collector<A, IntState, OptionalInt> intExtreme(ToIntFunction<? super A> f, boolean min) {
+        return Collector.of(
+                IntState::new,
+                (s, a) -> {
+                    int v = f.applyAsInt(a);
+                    if (!s.present || (min ? v < s.value : v > s.value)) {
+                        s.value = v;
+                        s.present = true;
+                    }
+                },
+                (x, y) -> !y.present || (x.present && (min ? x.value <= y.value : x.value >= y.value)) ? x : y,
+                s -> s.present ? OptionalInt.of(s.value) : OptionalInt.empty(),
+                Collector.Characteristics.UNORDERED);
+    }
+
+    private static <A> Collector<A, LongState, OptionalLong> longExtreme(ToLongFunction<? super A> f, boolean min) {
+        return Collector.of(
+                LongState::new,
+                (s, a) -> {
+                    long v = f.applyAsLong(a);
+                    if (!s.present || (min ? v < s.value : v > s.value)) {
+                        s.value = v;
+                        s.present = true;
+                    }
+                },
+                (x, y) -> !y.present || (x.present && (min ? x.value <= y.value : x.value >= y.value)) ? x : y,
+                s -> s.present ? OptionalLong.of(s.value) : OptionalLong.empty(),
+                Collector.Characteristics.UNORDERED);
+    }
+
+    /**
+     * As Math.min and Math.max, a NaN anywhere makes the result NaN.
+     */
+    private static <A> Collector<A, DoubleState, OptionalDouble> doubleExtreme(ToDoubleFunction<? super A> f,
+            boolean min) {
+        BinaryOperator<DoubleState> combine = (x, y) -> {
+            if (!y.present) {
+                return x;
+            }
+            if (x.present) {
+                x.value = min ? Math.min(x.value, y.value) : Math.max(x.value, y.value);
+                return x;
+            }
+            return y;
+        };
+        return Collector.of(
+                DoubleState::new,
+                (s, a) -> {
+                    double v = f.applyAsDouble(a);
+                    s.value = !s.present ? v : min ? Math.min(s.value, v) : Math.max(s.value, v);
+                    s.present = true;
+                },
+                combine,
+                s -> s.present ? OptionalDouble.of(s.value) : OptionalDouble.empty(),
+                Collector.Characteristics.UNORDERED);
+    }
+}
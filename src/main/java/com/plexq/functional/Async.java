@@ -0,0 +1,84 @@
+package com.plexq.functional;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * CompletableFuture plumbing behind async, eMapAsync, sequence and traverse.
+ *
+ * Futures here complete exceptionally with the exception the Exceptional* function actually threw, checked or not,
+ * rather than with the UncheckedExceptionalException wrapper or a CompletionException around it.  Combining futures
+ * registers a callback on each one; no thread waits on any of them.
+ */
+final class Async {
+    private Async() {
+    }
+
+    static <A> CompletableFuture<A> supply(ExceptionalSupplier<A> s, Executor executor) {
+        CompletableFuture<A> r = new CompletableFuture<>();
+        try {
+            executor.execute(() -> {
+                try {
+                    r.complete(s.apply());
+                }
+                catch (Throwable t) {
+                    r.completeExceptionally(unwrap(t));
+                }
+            });
+        }
+        catch (RuntimeException e) {
+            // Typically a RejectedExecutionException
+            r.completeExceptionally(e);
+        }
+        return r;
+    }
+
+    /**
+     * A future of every result in order, which fails as soon as any one of the futures fails, with that failure
+     * unwrapped.  The remaining futures are left to run.
+     */
+    static <A> CompletableFuture<List<A>> sequence(List<? extends CompletableFuture<? extends A>> futures) {
+        int size = futures.size();
+        CompletableFuture<List<A>> r = new CompletableFuture<>();
+        if (size == 0) {
+            r.complete(new ArrayList<>());
+            return r;
+        }
+        Object[] results = new Object[size];
+        AtomicInteger remaining = new AtomicInteger(size);
+        int i = 0;
+        for (CompletableFuture<? extends A> future : futures) {
+            int index = i++;
+            future.whenComplete((a, t) -> {
+                if (t != null) {
+                    r.completeExceptionally(unwrap(t));
+                }
+                else {
+                    results[index] = a;
+                    if (remaining.decrementAndGet() == 0) {
+                        @SuppressWarnings("unchecked")
+                        List<A> list = (List<A>) new ArrayList<>(Arrays.asList(results));
+                        r.complete(list);
+                    }
+                }
+            });
+        }
+        return r;
+    }
+
+    /**
+     * Strip the CompletionException and UncheckedExceptionalException wrappers from t, back to the original failure.
+     */
+    static Throwable unwrap(Throwable t) {
+        while ((t instanceof CompletionException || t instanceof UncheckedExceptionalException)
+                && t.getCause() != null) {
+            t = t.getCause();
+        }
+        return t;
+    }
+}
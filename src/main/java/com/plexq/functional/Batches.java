@@ -0,0 +1,96 @@
+package com.plexq.functional;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+
+/**
+ * Chunking machinery behind eMapBatched and eMapBatchedOrdered.  Inputs are deduplicated, preserving first occurrence
+ * order, before being cut into batches, so each distinct key is looked up exactly once; results are then fanned back
+ * out to every input position.
+ */
+final class Batches {
+    private static final int MAX_REPORTED_KEYS = 10;
+
+    private Batches() {
+    }
+
+    static <A> List<List<A>> distinctChunks(List<A> v, int batchSize) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("Batch size must be at least 1: " + batchSize);
+        }
+        List<A> distinct = new ArrayList<>(new LinkedHashSet<>(v));
+        List<List<A>> chunks = new ArrayList<>((distinct.size() + batchSize - 1) / batchSize);
+        for (int i = 0; i < distinct.size(); i += batchSize) {
+            chunks.add(distinct.subList(i, Math.min(distinct.size(), i + batchSize)));
+        }
+        return chunks;
+    }
+
+    static <A, B> List<B> keyed(List<A> v, int batchSize, int maxInFlight, Executor executor,
+            ExceptionalFunction<List<A>, Map<A, B>> f) {
+        List<List<A>> chunks = distinctChunks(v, batchSize);
+        List<Map<A, B>> results = dispatch(chunks, maxInFlight, executor, f);
+
+        Map<A, B> merged = new HashMap<>();
+        for (int i = 0; i < chunks.size(); i++) {
+            List<A> chunk = chunks.get(i);
+            Map<A, B> result = results.get(i);
+            List<A> missing = new ArrayList<>();
+            for (A a : chunk) {
+                if (result.containsKey(a)) {
+                    merged.put(a, result.get(a));
+                }
+                else {
+                    missing.add(a);
+                }
+            }
+            if (!missing.isEmpty()) {
+                throw new IllegalStateException("Batch result is missing " + missing.size() + " of " + chunk.size()
+                        + " keys: " + describe(missing));
+            }
+        }
+        return Functional.map(v, merged::get);
+    }
+
+    static <A, B> List<B> ordered(List<A> v, int batchSize, int maxInFlight, Executor executor,
+            ExceptionalFunction<List<A>, List<B>> f) {
+        List<List<A>> chunks = distinctChunks(v, batchSize);
+        List<List<B>> results = dispatch(chunks, maxInFlight, executor, f);
+
+        Map<A, B> merged = new HashMap<>();
+        for (int i = 0; i < chunks.size(); i++) {
+            List<A> chunk = chunks.get(i);
+            List<B> result = results.get(i);
+            if (result.size() != chunk.size()) {
+                throw new IllegalStateException("Batch result has " + result.size() + " elements for " + chunk.size()
+                        + " keys, starting at " + describe(chunk));
+            }
+            for (int j = 0; j < chunk.size(); j++) {
+                merged.put(chunk.get(j), result.get(j));
+            }
+        }
+        return Functional.map(v, merged::get);
+    }
+
+    private static <A, R> List<R> dispatch(List<List<A>> chunks, int maxInFlight, Executor executor,
+            ExceptionalFunction<List<A>, R> f) {
+        if (maxInFlight < 1) {
+            throw new IllegalArgumentException("maxInFlight must be at least 1: " + maxInFlight);
+        }
+        if (maxInFlight == 1 || chunks.size() <= 1) {
+            return Functional.eMap(chunks, f);
+        }
+        return Concurrent.run(chunks, maxInFlight, executor, f);
+    }
+
+    private static String describe(List<?> keys) {
+        if (keys.size() <= MAX_REPORTED_KEYS) {
+            return keys.toString();
+        }
+        return keys.subList(0, MAX_REPORTED_KEYS).toString() + " and " + (keys.size() - MAX_REPORTED_KEYS) + " more";
+    }
+}
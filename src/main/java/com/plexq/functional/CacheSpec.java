@@ -0,0 +1,90 @@
+package com.plexq.functional;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Configuration for Functional.memoize.  Immutable; each method returns a new spec, so specs can be shared and
+ * derived from one another:
+ * <pre>
+ *     CacheSpec.maximumSize(10000).lfu().expireAfterWrite(5, TimeUnit.MINUTES).cacheFailures()
+ * </pre>
+ * The default spec is unbounded, never expires, evicts least recently used entries once bounded, and does not cache
+ * failures.
+ */
+public final class CacheSpec {
+    public enum Eviction {
+        /** Evict the least recently used entry. */
+        LRU,
+        /** Evict the least frequently used of a small sample of the oldest entries. */
+        LFU
+    }
+
+    private final long maximumSize;
+    private final Eviction eviction;
+    private final long expireAfterWriteNanos;
+    private final boolean cacheFailures;
+
+    private CacheSpec(long maximumSize, Eviction eviction, long expireAfterWriteNanos, boolean cacheFailures) {
+        this.maximumSize = maximumSize;
+        this.eviction = eviction;
+        this.expireAfterWriteNanos = expireAfterWriteNanos;
+        this.cacheFailures = cacheFailures;
+    }
+
+    public static CacheSpec unbounded() {
+        return new CacheSpec(Long.MAX_VALUE, Eviction.LRU, 0, false);
+    }
+
+    public static CacheSpec maximumSize(long maximumSize) {
+        return unbounded().withMaximumSize(maximumSize);
+    }
+
+    public CacheSpec withMaximumSize(long maximumSize) {
+        if (maximumSize < 1) {
+            throw new IllegalArgumentException("Maximum size must be at least 1: " + maximumSize);
+        }
+        return new CacheSpec(maximumSize, eviction, expireAfterWriteNanos, cacheFailures);
+    }
+
+    public CacheSpec lru() {
+        return new CacheSpec(maximumSize, Eviction.LRU, expireAfterWriteNanos, cacheFailures);
+    }
+
+    public CacheSpec lfu() {
+        return new CacheSpec(maximumSize, Eviction.LFU, expireAfterWriteNanos, cacheFailures);
+    }
+
+    public CacheSpec expireAfterWrite(long duration, TimeUnit unit) {
+        if (duration <= 0) {
+            throw new IllegalArgumentException("Expiry must be positive: " + duration);
+        }
+        return new CacheSpec(maximumSize, eviction, unit.toNanos(duration), cacheFailures);
+    }
+
+    /**
+     * Also cache exceptions thrown by the function, so that repeated calls for a failing key rethrow the cached
+     * exception, subject to the same size bound and expiry as values, instead of calling the function again.
+     */
+    public CacheSpec cacheFailures() {
+        return new CacheSpec(maximumSize, eviction, expireAfterWriteNanos, true);
+    }
+
+    public long getMaximumSize() {
+        return maximumSize;
+    }
+
+    public Eviction getEviction() {
+        return eviction;
+    }
+
+    /**
+     * @return the expiry in nanoseconds, or 0 if entries never expire
+     */
+    public long getExpireAfterWriteNanos() {
+        return expireAfterWriteNanos;
+    }
+
+    public boolean isCacheFailures() {
+        return cacheFailures;
+    }
+}
@@ -0,0 +1,248 @@
+package com.plexq.functional;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+/**
+ * One component of a TupleList, stored in its own growable array.  The int, long and double columns store their
+ * values unboxed, and can be read without boxing through getInt, getLong and getDouble; get boxes on each call.
+ *
+ * A column is a read-only List view of its values; it grows only through the TupleList that owns it.  Primitive
+ * columns do not accept nulls.
+ *
+ * @param <A> Parameterized type of the values
+ */
+public abstract class Column<A> extends AbstractList<A> implements RandomAccess {
+    private static final int DEFAULT_CAPACITY = 16;
+
+    int size;
+
+    Column() {
+    }
+
+    public static <A> Column<A> objects() {
+        return objects(DEFAULT_CAPACITY);
+    }
+
+    public static <A> Column<A> objects(int capacity) {
+        return new ObjectColumn<>(capacity);
+    }
+
+    public static Column<Integer> ints() {
+        return ints(DEFAULT_CAPACITY);
+    }
+
+    public static Column<Integer> ints(int capacity) {
+        return new IntColumn(capacity);
+    }
+
+    public static Column<Long> longs() {
+        return longs(DEFAULT_CAPACITY);
+    }
+
+    public static Column<Long> longs(int capacity) {
+        return new LongColumn(capacity);
+    }
+
+    public static Column<Double> doubles() {
+        return doubles(DEFAULT_CAPACITY);
+    }
+
+    public static Column<Double> doubles(int capacity) {
+        return new DoubleColumn(capacity);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    public int getInt(int i) {
+        throw new UnsupportedOperationException("Not an int column");
+    }
+
+    public long getLong(int i) {
+        throw new UnsupportedOperationException("Not a long column");
+    }
+
+    public double getDouble(int i) {
+        throw new UnsupportedOperationException("Not a double column");
+    }
+
+    void checkIndex(int i) {
+        Platform.checkIndex(i, size);
+    }
+
+    static int grow(int capacity) {
+        return Math.max(DEFAULT_CAPACITY, capacity + (capacity >> 1));
+    }
+
+    /**
+     * Throws if a cannot be stored in this column.  A TupleList checks every component before it changes any column,
+     * so that a rejected tuple leaves all of them as they were.
+     */
+    void check(A a) {
+    }
+
+    abstract void append(A a);
+
+    abstract A replace(int i, A a);
+
+    void appendInt(int x) {
+        throw new UnsupportedOperationException("Not an int column");
+    }
+
+    private static final class ObjectColumn<A> extends Column<A> {
+        private Object[] values;
+
+        ObjectColumn(int capacity) {
+            values = new Object[capacity];
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public A get(int i) {
+            checkIndex(i);
+            return (A) values[i];
+        }
+
+        @Override
+        void append(A a) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, grow(size));
+            }
+            values[size++] = a;
+        }
+
+        @Override
+        A replace(int i, A a) {
+            A old = get(i);
+            values[i] = a;
+            return old;
+        }
+    }
+
+    private static final class IntColumn extends Column<Integer> {
+        private int[] values;
+
+        IntColumn(int capacity) {
+            values = new int[capacity];
+        }
+
+        @Override
+        public Integer get(int i) {
+            return getInt(i);
+        }
+
+        @Override
+        public int getInt(int i) {
+            checkIndex(i);
+            return values[i];
+        }
+
+        @Override
+        void check(Integer a) {
+            Objects.requireNonNull(a, "Primitive columns do not accept nulls");
+        }
+
+        @Override
+        void append(Integer a) {
+            appendInt(a);
+        }
+
+        @Override
+        void appendInt(int x) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, grow(size));
+            }
+            values[size++] = x;
+        }
+
+        @Override
+        Integer replace(int i, Integer a) {
+            int old = getInt(i);
+            values[i] = a;
+            return old;
+        }
+    }
+
+    private static final class LongColumn extends Column<Long> {
+        private long[] values;
+
+        LongColumn(int capacity) {
+            values = new long[capacity];
+        }
+
+        @Override
+        public Long get(int i) {
+            return getLong(i);
+        }
+
+        @Override
+        public long getLong(int i) {
+            checkIndex(i);
+            return values[i];
+        }
+
+        @Override
+        void check(Long a) {
+            Objects.requireNonNull(a, "Primitive columns do not accept nulls");
+        }
+
+        @Override
+        void append(Long a) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, grow(size));
+            }
+            values[size++] = a;
+        }
+
+        @Override
+        Long replace(int i, Long a) {
+            long old = getLong(i);
+            values[i] = a;
+            return old;
+        }
+    }
+
+    private static final class DoubleColumn extends Column<Double> {
+        private double[] values;
+
+        DoubleColumn(int capacity) {
+            values = new double[capacity];
+        }
+
+        @Override
+        public Double get(int i) {
+            return getDouble(i);
+        }
+
+        @Override
+        public double getDouble(int i) {
+            checkIndex(i);
+            return values[i];
+        }
+
+        @Override
+        void check(Double a) {
+            Objects.requireNonNull(a, "Primitive columns do not accept nulls");
+        }
+
+        @Override
+        void append(Double a) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, grow(size));
+            }
+            values[size++] = a;
+        }
+
+        @Override
+        Double replace(int i, Double a) {
+            double old = getDouble(i);
+            values[i] = a;
+            return old;
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package com.plexq.functional;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+/**
+ * Bounded concurrency machinery behind eMapConcurrent and eFlatMapConcurrent.  Meant for blocking calls (JDBC, files,
+ * HTTP), where the win comes from overlapping waits rather than from using more cores.
+ *
+ * The calling thread submits one task per element, holding a permit for each task in flight, and blocks until every
+ * task has finished or one has failed.  On the first failure, by time not by index, no further tasks are submitted,
+ * those in flight are cancelled with interruption, and that failure is rethrown.
+ */
+final class Concurrent {
+    private Concurrent() {
+    }
+
+    /**
+     * The executor used when none is given: a virtual thread per task on JDKs that have them, otherwise a cached pool
+     * of daemon threads.  Looked up reflectively so the library still builds and runs on Java 8.
+     */
+    static Executor defaultExecutor() {
+        return DefaultExecutor.INSTANCE;
+    }
+
+    private static final class DefaultExecutor {
+        static final ExecutorService INSTANCE = create();
+
+        private static ExecutorService create() {
+            try {
+                Method m = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+                return (ExecutorService) m.invoke(null);
+            }
+            catch (ReflectiveOperationException | RuntimeException e) {
+                return Executors.newCachedThreadPool(r -> {
+                    Thread t = new Thread(r, "functional-concurrent");
+                    t.setDaemon(true);
+                    return t;
+                });
+            }
+        }
+    }
+
+    static <A, B> List<B> run(List<A> v, int maxInFlight, Executor executor, Function<A, B> f) {
+        if (maxInFlight < 1) {
+            throw new IllegalArgumentException("maxInFlight must be at least 1: " + maxInFlight);
+        }
+        int size = v.size();
+        Semaphore permits = new Semaphore(maxInFlight);
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        AtomicInteger remaining = new AtomicInteger(size);
+        CountDownLatch finished = new CountDownLatch(size == 0 ? 0 : 1);
+        List<FutureTask<B>> tasks = new ArrayList<>(size);
+
+        try {
+            for (A a : v) {
+                permits.acquire();
+                if (failure.get() != null) {
+                    break;
+                }
+                FutureTask<B> task = new FutureTask<>(() -> {
+                    try {
+                        return f.apply(a);
+                    }
+                    catch (Throwable e) {
+                        if (failure.compareAndSet(null, e)) {
+                            finished.countDown();
+                        }
+                        throw e;
+                    }
+                    finally {
+                        permits.release();
+                        if (remaining.decrementAndGet() == 0) {
+                            finished.countDown();
+                        }
+                    }
+                });
+                tasks.add(task);
+                executor.execute(task);
+            }
+            finished.await();
+        }
+        catch (InterruptedException e) {
+            cancel(tasks);
+            Thread.currentThread().interrupt();
+            throw new UncheckedExceptionalException(e);
+        }
+        catch (RuntimeException | Error e) {
+            cancel(tasks);
+            throw e;
+        }
+
+        Throwable t = failure.get();
+        if (t != null) {
+            cancel(tasks);
+            // A function made sneaky can throw a checked exception, which goes on out the same way
+            throw Exceptions.sneakyThrow(t);
+        }
+
+        List<B> r = new ArrayList<>(size);
+        for (FutureTask<B> task : tasks) {
+            try {
+                r.add(task.get());
+            }
+            catch (InterruptedException | ExecutionException e) {
+                // Every task has completed successfully by now, so this is unreachable
+                throw new IllegalStateException(e);
+            }
+        }
+        return r;
+    }
+
+    private static void cancel(List<? extends FutureTask<?>> tasks) {
+        for (FutureTask<?> task : tasks) {
+            task.cancel(true);
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package com.plexq.functional;
+
+/**
+ * A step of a fold with a primitive double accumulator: combines the accumulator so far with the next element.  The
+ * accumulator is never boxed, unlike BiFunction&lt;Double, A, Double&gt;.
+ */
+@FunctionalInterface
+public interface DoubleObjToDoubleFunction<A> {
+    double apply(double acc, A a);
+}
@@ -9,13 +9,29 @@ public interface ExceptionalBiConsumer<T,U> extends BiConsumer<T,U> {
         try {
             apply(t,u);
         }
-        catch (Throwable e) {
-            if (e instanceof RuntimeException) {
-                throw (RuntimeException)e;
+        catch (Exception e) {
+            throw Exceptions.unchecked(e);
+        }
+    }
+
+    /**
+     * A variant of this consumer that rethrows checked exceptions as they are, undeclared, rather than wrapping them.
+     */
+    default ExceptionalBiConsumer<T,U> sneaky() {
+        ExceptionalBiConsumer<T,U> self = this;
+        return new ExceptionalBiConsumer<T,U>() {
+            public void apply(T t, U u) throws Exception {
+                self.apply(t,u);
             }
-            else {
-                throw new RuntimeException(e);
+
+            public void accept(T t, U u) {
+                try {
+                    self.apply(t,u);
+                }
+                catch (Exception e) {
+                    throw Exceptions.sneakyThrow(e);
+                }
             }
-        }
+        };
     }
-}
\ No newline at end of file
+}
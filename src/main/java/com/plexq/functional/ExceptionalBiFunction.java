@@ -0,0 +1,29 @@
+package com.plexq.functional;
+
+import java.util.function.BiFunction;
+
+@FunctionalInterface
+public interface ExceptionalBiFunction<A, B, C> extends BiFunction<A, B, C> {
+    C f(A a, B b) throws Exception;
+    default C apply(A a, B b) {
+        try { return f(a, b); }
+        catch (Exception e) { throw Exceptions.unchecked(e); }
+    }
+
+    /**
+     * A variant of this function that rethrows checked exceptions as they are, undeclared, rather than wrapping them.
+     */
+    default ExceptionalBiFunction<A, B, C> sneaky() {
+        ExceptionalBiFunction<A, B, C> self = this;
+        return new ExceptionalBiFunction<A, B, C>() {
+            public C f(A a, B b) throws Exception {
+                return self.f(a, b);
+            }
+
+            public C apply(A a, B b) {
+                try { return self.f(a, b); }
+                catch (Exception e) { throw Exceptions.sneakyThrow(e); }
+            }
+        };
+    }
+}
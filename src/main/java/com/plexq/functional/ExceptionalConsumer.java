@@ -9,13 +9,29 @@ public interface ExceptionalConsumer<T> extends Consumer<T> {
         try {
             apply(t);
         }
-        catch (Throwable e) {
-            if (e instanceof RuntimeException) {
-                throw (RuntimeException)e;
+        catch (Exception e) {
+            throw Exceptions.unchecked(e);
+        }
+    }
+
+    /**
+     * A variant of this consumer that rethrows checked exceptions as they are, undeclared, rather than wrapping them.
+     */
+    default ExceptionalConsumer<T> sneaky() {
+        ExceptionalConsumer<T> self = this;
+        return new ExceptionalConsumer<T>() {
+            public void apply(T t) throws Exception {
+                self.apply(t);
             }
-            else {
-                throw new RuntimeException(e);
+
+            public void accept(T t) {
+                try {
+                    self.apply(t);
+                }
+                catch (Exception e) {
+                    throw Exceptions.sneakyThrow(e);
+                }
             }
-        }
+        };
     }
 }
@@ -7,6 +7,23 @@ public interface ExceptionalFunction<A, B> extends Function<A, B> {
     B f(A a) throws Exception;
     default B apply(A a) {
         try { return f(a); }
-        catch (Exception e) { throw new RuntimeException(e); }
+        catch (Exception e) { throw Exceptions.unchecked(e); }
+    }
+
+    /**
+     * A variant of this function that rethrows checked exceptions as they are, undeclared, rather than wrapping them.
+     */
+    default ExceptionalFunction<A, B> sneaky() {
+        ExceptionalFunction<A, B> self = this;
+        return new ExceptionalFunction<A, B>() {
+            public B f(A a) throws Exception {
+                return self.f(a);
+            }
+
+            public B apply(A a) {
+                try { return self.f(a); }
+                catch (Exception e) { throw Exceptions.sneakyThrow(e); }
+            }
+        };
     }
 }
@@ -9,8 +9,29 @@ public interface ExceptionalPredicate<T> extends Predicate<T> {
         try {
             return apply(t);
         }
-        catch (Throwable e) {
-            throw new RuntimeException(e);
+        catch (Exception e) {
+            throw Exceptions.unchecked(e);
         }
     }
+
+    /**
+     * A variant of this predicate that rethrows checked exceptions as they are, undeclared, rather than wrapping them.
+     */
+    default ExceptionalPredicate<T> sneaky() {
+        ExceptionalPredicate<T> self = this;
+        return new ExceptionalPredicate<T>() {
+            public boolean apply(T t) throws Exception {
+                return self.apply(t);
+            }
+
+            public boolean test(T t) {
+                try {
+                    return self.apply(t);
+                }
+                catch (Exception e) {
+                    throw Exceptions.sneakyThrow(e);
+                }
+            }
+        };
+    }
 }
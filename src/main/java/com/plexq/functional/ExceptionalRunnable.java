@@ -1,7 +1,5 @@
 package com.plexq.functional;
 
-import java.util.function.Supplier;
-
 @FunctionalInterface
 public interface ExceptionalRunnable extends Runnable {
     void apply() throws Exception;
@@ -9,13 +7,29 @@ public interface ExceptionalRunnable extends Runnable {
         try {
             apply();
         }
-        catch (Throwable e) {
-            if (e instanceof RuntimeException) {
-                throw (RuntimeException)e;
+        catch (Exception e) {
+            throw Exceptions.unchecked(e);
+        }
+    }
+
+    /**
+     * A variant of this runnable that rethrows checked exceptions as they are, undeclared, rather than wrapping them.
+     */
+    default ExceptionalRunnable sneaky() {
+        ExceptionalRunnable self = this;
+        return new ExceptionalRunnable() {
+            public void apply() throws Exception {
+                self.apply();
             }
-            else {
-                throw new RuntimeException(e);
+
+            public void run() {
+                try {
+                    self.apply();
+                }
+                catch (Exception e) {
+                    throw Exceptions.sneakyThrow(e);
+                }
             }
-        }
+        };
     }
 }
@@ -1,6 +1,5 @@
 package com.plexq.functional;
 
-import java.util.function.Consumer;
 import java.util.function.Supplier;
 
 @FunctionalInterface
@@ -10,13 +9,29 @@ public interface ExceptionalSupplier<T> extends Supplier<T> {
         try {
             return apply();
         }
-        catch (Throwable e) {
-            if (e instanceof RuntimeException) {
-                throw (RuntimeException)e;
+        catch (Exception e) {
+            throw Exceptions.unchecked(e);
+        }
+    }
+
+    /**
+     * A variant of this supplier that rethrows checked exceptions as they are, undeclared, rather than wrapping them.
+     */
+    default ExceptionalSupplier<T> sneaky() {
+        ExceptionalSupplier<T> self = this;
+        return new ExceptionalSupplier<T>() {
+            public T apply() throws Exception {
+                return self.apply();
             }
-            else {
-                throw new RuntimeException(e);
+
+            public T get() {
+                try {
+                    return self.apply();
+                }
+                catch (Exception e) {
+                    throw Exceptions.sneakyThrow(e);
+                }
             }
-        }
+        };
     }
 }
@@ -0,0 +1,28 @@
+package com.plexq.functional;
+
+/**
+ * Exception plumbing shared by the Exceptional* interfaces.
+ */
+final class Exceptions {
+    private Exceptions() {
+    }
+
+    /**
+     * Unchecked exceptions pass through as they are, checked ones are wrapped in an UncheckedExceptionalException.
+     */
+    static RuntimeException unchecked(Exception e) {
+        if (e instanceof RuntimeException) {
+            return (RuntimeException) e;
+        }
+        return new UncheckedExceptionalException(e);
+    }
+
+    /**
+     * Throw e unwrapped, checked or not, without the compiler knowing.  Declared to return an exception so that
+     * callers can write throw sneakyThrow(e) and satisfy definite return analysis.
+     */
+    @SuppressWarnings("unchecked")
+    static <T extends Throwable> RuntimeException sneakyThrow(Throwable e) throws T {
+        throw (T) e;
+    }
+}
@@ -1,24 +1,56 @@
 package com.plexq.functional;
 
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-import java.util.function.Consumer;
+import java.util.RandomAccess;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
 import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.BinaryOperator;
+import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.ObjIntConsumer;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
+import java.util.stream.Collector;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
+import com.plexq.functional.metrics.Instrumentation;
+import com.plexq.functional.persistent.PMap;
+import com.plexq.functional.persistent.PVector;
+import com.plexq.functional.Tuple.IntObjTuple;
 import com.plexq.functional.Tuple.Tuple2;
+import com.plexq.functional.Tuple.Tuple3;
 
 /**
  * Glue code for functional extensions.  Use this class with great care.  This will box and unbox lists to Streams
  * and back again.  DO NOT compose calls using these wrappers, use these wrappers only at the top most level, and compose
- * rather the functions passed in to them.
+ * rather the functions passed in to them.  Where a chain of map/filter/flatMap is unavoidable, use view, which fuses
+ * the stages into a single pass.
+ *
+ * map, filter, eMap and flatten walk RandomAccess lists with an indexed loop into a pre-sized ArrayList instead of
+ * going through a Stream and Collector; other lists are still streamed.  Either way the result is a new mutable list.
  */
 public final class Functional {
+    /**
+     * Upper bound on the initial capacity of a result whose size isn't known up front, as for filter, flatten and
+     * mapMulti.  Sizing to the input is exact for small lists, but for large lists would pin a backing array as big as
+     * the input even when almost nothing comes out.  1024 references is 4-8KB, so small results never resize, while
+     * larger ones reach any size in a few doublings.
+     */
+    private static final int UNKNOWN_SIZE_INITIAL_CAPACITY_LIMIT = 1024;
+
     public static <A, B> Function<A, B> exceptional(ExceptionalFunction<A, B> f) {
         return f;
     }
@@ -50,6 +82,14 @@ public final class Functional {
      * @return
      */
     public static <A, B> List<B> map(List<A> v, Function<A, B> f) {
+        if (v instanceof RandomAccess) {
+            int size = v.size();
+            List<B> r = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                r.add(f.apply(v.get(i)));
+            }
+            return r;
+        }
         return v.stream().map(f).collect(Collectors.toList());
     }
 
@@ -62,15 +102,64 @@ public final class Functional {
     }
 
     public static <A, B> Stream<B> flatMap(Stream<A> s, Function<A, Optional<B>> f) {
-        return s.flatMap(f.andThen(x -> x.map(Stream::of).orElseGet(Stream::empty)));
+        return Platform.flatMap(s, f);
     }
 
     public static <A, B> List<B> flatMap(List<A> v, Function<A, Optional<B>> f) {
-        return v.stream().flatMap(f.andThen(x -> x.map(Stream::of).orElseGet(Stream::empty))).collect(
-                Collectors.toList());
+        return mapMulti(v, (A x, Consumer<B> out) -> {
+            Optional<B> b = f.apply(x);
+            if (b.isPresent()) {
+                out.accept(b.get());
+            }
+        });
+    }
+
+    /**
+     * Map each element to any number of results by pushing them to a consumer, as Stream.mapMulti does from Java 16.
+     * Unlike flatMap through a Stream, no Optional, Stream or List is created per element, so elements that produce
+     * nothing or a single result cost nothing beyond f itself.
+     * <pre>
+     *     mapMulti(orders, (Order o, Consumer&lt;Line&gt; out) -&gt; o.getLines().forEach(out))
+     * </pre>
+     * @param v a List object
+     * @param f a function which passes each result for an element to the consumer it is given, in order
+     * @param <A> Parameterized type of the input list
+     * @param <B> Parameterized type of the output list
+     * @return the results of every element, in input order
+     */
+    public static <A, B> List<B> mapMulti(List<A> v, BiConsumer<A, Consumer<B>> f) {
+        List<B> r = new ArrayList<>(Math.min(v.size(), UNKNOWN_SIZE_INITIAL_CAPACITY_LIMIT));
+        Consumer<B> out = r::add;
+        if (v instanceof RandomAccess) {
+            int size = v.size();
+            for (int i = 0; i < size; i++) {
+                f.accept(v.get(i), out);
+            }
+        }
+        else {
+            for (A x : v) {
+                f.accept(x, out);
+            }
+        }
+        return r;
+    }
+
+    public static <A, B> List<B> eMapMulti(List<A> v, ExceptionalBiConsumer<A, Consumer<B>> f) {
+        return mapMulti(v, f);
     }
 
     public static <A> List<A> flatten(List<Optional<A>> a) {
+        if (a instanceof RandomAccess) {
+            int size = a.size();
+            List<A> r = new ArrayList<>(Math.min(size, UNKNOWN_SIZE_INITIAL_CAPACITY_LIMIT));
+            for (int i = 0; i < size; i++) {
+                Optional<A> x = a.get(i);
+                if (x.isPresent()) {
+                    r.add(x.get());
+                }
+            }
+            return r;
+        }
         return a.stream().filter(Optional::isPresent).map(Optional::get).collect(Collectors.toList());
     }
 
@@ -79,6 +168,17 @@ public final class Functional {
     }
 
     public static <A> List<A> filter(List<A> v, Predicate<A> p) {
+        if (v instanceof RandomAccess) {
+            int size = v.size();
+            List<A> r = new ArrayList<>(Math.min(size, UNKNOWN_SIZE_INITIAL_CAPACITY_LIMIT));
+            for (int i = 0; i < size; i++) {
+                A x = v.get(i);
+                if (p.test(x)) {
+                    r.add(x);
+                }
+            }
+            return r;
+        }
         return v.stream().filter(p).collect(Collectors.toList());
     }
 
@@ -87,7 +187,18 @@ public final class Functional {
     }
 
     public static <A, B> List<B> eFlatMap(List<A> v, ExceptionalFunction<A, List<B>> f) {
-        return v.stream().flatMap(x -> f.apply(x).stream()).collect(Collectors.toList());
+        return mapMulti(v, (A x, Consumer<B> out) -> {
+            List<B> bs = f.apply(x);
+            if (bs instanceof RandomAccess) {
+                int size = bs.size();
+                for (int i = 0; i < size; i++) {
+                    out.accept(bs.get(i));
+                }
+            }
+            else {
+                bs.forEach(out);
+            }
+        });
     }
 
     // Cast an ExceptionalPredicate down to a regular predicate
@@ -100,6 +211,21 @@ public final class Functional {
         return find(v, predicate);
     }
 
+    /**
+     * Start a lazy pipeline over a list.  Stages added to the returned View are fused, and nothing is evaluated until a
+     * terminal operation is called, so
+     * <pre>
+     *     view(v).filter(p).map(f).take(10).toList()
+     * </pre>
+     * traverses v once, stops after ten results, and allocates only the final list.
+     * @param v a List object
+     * @param <A> Parameterized type of the input list
+     * @return a View over v
+     */
+    public static <A> View<A> view(List<A> v) {
+        return View.of(v);
+    }
+
     public static <A> Stream<A> toStream(Optional<A> o) {
         return o.map(Stream::of).orElseGet(Stream::empty);
     }
@@ -113,7 +239,847 @@ public final class Functional {
         else return supplier.get();
     }
 
+    /**
+     * Pair each element with its index.  A RandomAccess list is read by index; any other list is walked once through
+     * its spliterator, never with get.  Either way the stream is SIZED and SUBSIZED, so it splits evenly in parallel.
+     */
     public static <A> Stream<Tuple2<Integer, A>> zipWithIndex(List<A> a) {
-        return IntStream.range(0, a.size()).boxed().map(x -> Tuple.tuple(x, a.get(x)));
+        if (a instanceof RandomAccess) {
+            return IntStream.range(0, a.size()).mapToObj(x -> Tuple.tuple(x, a.get(x)));
+        }
+        return StreamSupport.stream(Iterators.zipWithIndex(a.spliterator(), 0), false);
+    }
+
+    /**
+     * Pair each element of the stream with its index in a single pass.  The result splits for parallel use whenever s
+     * itself is SUBSIZED.
+     */
+    public static <A> Stream<Tuple2<Integer, A>> zipWithIndex(Stream<A> s) {
+        return StreamSupport.stream(Iterators.zipWithIndex(s.spliterator(), 0), s.isParallel()).onClose(s::close);
+    }
+
+    /**
+     * Pair the elements of a and b by position, stopping at the end of the shorter list.  Two RandomAccess lists are
+     * read by index, anything else is walked once with iterators; the stream is SIZED and SUBSIZED either way.
+     */
+    public static <A, B> Stream<Tuple2<A, B>> zip(List<A> a, List<B> b) {
+        int size = Math.min(a.size(), b.size());
+        if (a instanceof RandomAccess && b instanceof RandomAccess) {
+            return IntStream.range(0, size).mapToObj(i -> Tuple.tuple(a.get(i), b.get(i)));
+        }
+        Iterator<A> as = a.iterator();
+        Iterator<B> bs = b.iterator();
+        return sized(Iterators.generate(size, () -> Tuple.tuple(as.next(), bs.next())), size);
+    }
+
+    public static <A, B, C> Stream<Tuple3<A, B, C>> zip3(List<A> a, List<B> b, List<C> c) {
+        int size = Math.min(a.size(), Math.min(b.size(), c.size()));
+        if (a instanceof RandomAccess && b instanceof RandomAccess && c instanceof RandomAccess) {
+            return IntStream.range(0, size).mapToObj(i -> Tuple.tuple(a.get(i), b.get(i), c.get(i)));
+        }
+        Iterator<A> as = a.iterator();
+        Iterator<B> bs = b.iterator();
+        Iterator<C> cs = c.iterator();
+        return sized(Iterators.generate(size, () -> Tuple.tuple(as.next(), bs.next(), cs.next())), size);
+    }
+
+    private static <A> Stream<A> sized(Iterator<A> i, int size) {
+        return StreamSupport.stream(Spliterators.spliterator(i, size, Spliterator.ORDERED | Spliterator.NONNULL),
+                false);
+    }
+
+    /**
+     * Apply f to each element of the list along with its index.  The index is passed as a primitive int, so unlike
+     * zipWithIndex no Integer or Tuple2 is allocated per element.
+     * @param a a List object
+     * @param f a consumer of each element and its index
+     * @param <A> Parameterized type of the input list
+     */
+    public static <A> void forEachWithIndex(List<A> a, ObjIntConsumer<A> f) {
+        if (a instanceof RandomAccess) {
+            int size = a.size();
+            for (int i = 0; i < size; i++) {
+                f.accept(a.get(i), i);
+            }
+        }
+        else {
+            int i = 0;
+            for (A x : a) {
+                f.accept(x, i++);
+            }
+        }
+    }
+
+    /**
+     * Map each element of the list along with its index, passed as a primitive int.
+     * @param a a List object
+     * @param f a function of each index and element
+     * @param <A> Parameterized type of the input list
+     * @param <B> Parameterized type of the output of the function, and therefore also the output List
+     * @return a new List of the results in input order
+     */
+    public static <A, B> List<B> mapWithIndex(List<A> a, IntObjFunction<A, B> f) {
+        List<B> r = new ArrayList<>(a.size());
+        forEachWithIndex(a, (x, i) -> r.add(f.apply(i, x)));
+        return r;
+    }
+
+    /**
+     * As zipWithIndex, but materialized as IntObjTuples which hold the index as a primitive int.
+     */
+    public static <A> List<IntObjTuple<A>> zipWithIntIndex(List<A> a) {
+        return mapWithIndex(a, Tuple::intTuple);
+    }
+
+    /**
+     * Cut a list into consecutive groups of size elements, the last possibly smaller.  For a RandomAccess list the
+     * groups are subList views rather than copies, so they see later changes to v and must not outlive structural
+     * changes to it.
+     * <pre>
+     *     grouped(Arrays.asList(1, 2, 3, 4, 5), 2) = [[1, 2], [3, 4], [5]]
+     * </pre>
+     */
+    public static <A> List<List<A>> grouped(List<A> v, int size) {
+        return sliding(v, size, size);
+    }
+
+    /**
+     * Windows of size elements starting every step elements.  The windows stop once one reaches the end of v, so the
+     * last may be shorter; if step is larger than size, elements between windows are skipped.  As with grouped, for
+     * a RandomAccess list the windows are subList views.
+     * <pre>
+     *     sliding(Arrays.asList(1, 2, 3, 4, 5, 6), 3, 2) = [[1, 2, 3], [3, 4, 5], [5, 6]]
+     * </pre>
+     */
+    public static <A> List<List<A>> sliding(List<A> v, int size, int step) {
+        return Windows.sliding(v, size, step);
+    }
+
+    /**
+     * The stream cut into consecutive lists of size elements, the last possibly smaller, pulled lazily.
+     */
+    public static <A> Stream<List<A>> chunked(Stream<A> s, int size) {
+        return sliding(s, size, size);
+    }
+
+    /**
+     * Windows over a stream, as sliding over a list.  Elements are buffered in a ring of size elements, so each is read
+     * once however much the windows overlap, and each window is a fresh list that may be kept.
+     */
+    public static <A> Stream<List<A>> sliding(Stream<A> s, int size, int step) {
+        return StreamSupport.stream(Windows.sliding(s.spliterator(), size, step), s.isParallel()).onClose(s::close);
+    }
+
+    /**
+     * As zipWithIndex, but materialized column by column: the indexes are held in an int array and the elements in an
+     * object array, with no Tuple2 or Integer per element.
+     */
+    public static <A> TupleList2<Integer, A> zipWithIndexColumnar(List<A> a) {
+        int size = a.size();
+        Column<Integer> indexes = Column.ints(size);
+        Column<A> elements = Column.objects(size);
+        int i = 0;
+        for (A x : a) {
+            indexes.appendInt(i++);
+            elements.append(x);
+        }
+        return new TupleList2<>(indexes, elements);
+    }
+
+    /**
+     * Split a list of pairs into columns.  The columns of the result are available as lists through column1 and
+     * column2, and the result is itself a list of the original pairs, stored without a Tuple2 per element.
+     */
+    public static <A, B> TupleList2<A, B> unzip(List<Tuple2<A, B>> v) {
+        return unzip(v, Column.objects(v.size()), Column.objects(v.size()));
+    }
+
+    /**
+     * As unzip, into the given columns, so that components can be stored as primitives with Column.ints, longs or
+     * doubles.
+     */
+    public static <A, B> TupleList2<A, B> unzip(List<Tuple2<A, B>> v, Column<A> c1, Column<B> c2) {
+        return TupleList2.from(v, c1, c2);
+    }
+
+    public static <A, B, C> TupleList3<A, B, C> unzip3(List<Tuple3<A, B, C>> v) {
+        return unzip3(v, Column.objects(v.size()), Column.objects(v.size()), Column.objects(v.size()));
+    }
+
+    public static <A, B, C> TupleList3<A, B, C> unzip3(List<Tuple3<A, B, C>> v, Column<A> c1, Column<B> c2,
+            Column<C> c3) {
+        return TupleList3.from(v, c1, c2, c3);
+    }
+
+    //
+    // Folds.  Elements are visited in order, and the primitive folds keep their accumulator unboxed throughout.
+    //
+
+    public static <A, B> B foldLeft(List<A> v, B zero, BiFunction<B, A, B> f) {
+        B acc = zero;
+        if (v instanceof RandomAccess) {
+            int size = v.size();
+            for (int i = 0; i < size; i++) {
+                acc = f.apply(acc, v.get(i));
+            }
+        }
+        else {
+            for (A x : v) {
+                acc = f.apply(acc, x);
+            }
+        }
+        return acc;
+    }
+
+    public static <A, B> B eFoldLeft(List<A> v, B zero, ExceptionalBiFunction<B, A, B> f) {
+        return foldLeft(v, zero, f);
+    }
+
+    /**
+     * Every intermediate result of foldLeft, starting with zero, so the result has one more element than v.
+     * <pre>
+     *     scanLeft(Arrays.asList(1, 2, 3), 0, (acc, x) -&gt; acc + x) = [0, 1, 3, 6]
+     * </pre>
+     */
+    public static <A, B> List<B> scanLeft(List<A> v, B zero, BiFunction<B, A, B> f) {
+        List<B> r = new ArrayList<>(v.size() + 1);
+        r.add(zero);
+        foldLeft(v, zero, (B acc, A x) -> {
+            B next = f.apply(acc, x);
+            r.add(next);
+            return next;
+        });
+        return r;
+    }
+
+    public static <A> int foldInt(List<A> v, int zero, IntObjToIntFunction<A> f) {
+        int acc = zero;
+        if (v instanceof RandomAccess) {
+            int size = v.size();
+            for (int i = 0; i < size; i++) {
+                acc = f.apply(acc, v.get(i));
+            }
+        }
+        else {
+            for (A x : v) {
+                acc = f.apply(acc, x);
+            }
+        }
+        return acc;
+    }
+
+    public static <A> long foldLong(List<A> v, long zero, LongObjToLongFunction<A> f) {
+        long acc = zero;
+        if (v instanceof RandomAccess) {
+            int size = v.size();
+            for (int i = 0; i < size; i++) {
+                acc = f.apply(acc, v.get(i));
+            }
+        }
+        else {
+            for (A x : v) {
+                acc = f.apply(acc, x);
+            }
+        }
+        return acc;
+    }
+
+    public static <A> double foldDouble(List<A> v, double zero, DoubleObjToDoubleFunction<A> f) {
+        double acc = zero;
+        if (v instanceof RandomAccess) {
+            int size = v.size();
+            for (int i = 0; i < size; i++) {
+                acc = f.apply(acc, v.get(i));
+            }
+        }
+        else {
+            for (A x : v) {
+                acc = f.apply(acc, x);
+            }
+        }
+        return acc;
+    }
+
+    //
+    // Parallel combinators.  These keep input order and fall back to the sequential method for lists smaller than
+    // the parallel threshold.  If f throws, the exception from the lowest failing index is rethrown unchanged, and
+    // work on later elements is abandoned.
+    //
+
+    public static <A, B> List<B> parMap(List<A> v, Function<A, B> f) {
+        return parMap(ForkJoinPool.commonPool(), v, f);
+    }
+
+    public static <A, B> List<B> parMap(ForkJoinPool pool, List<A> v, Function<A, B> f) {
+        if (v.size() < Parallel.threshold()) {
+            return map(v, f);
+        }
+        return Parallel.run(pool, v, (A x, List<B> out) -> out.add(f.apply(x)));
+    }
+
+    public static <A> List<A> parFilter(List<A> v, Predicate<A> p) {
+        return parFilter(ForkJoinPool.commonPool(), v, p);
+    }
+
+    public static <A> List<A> parFilter(ForkJoinPool pool, List<A> v, Predicate<A> p) {
+        if (v.size() < Parallel.threshold()) {
+            return filter(v, p);
+        }
+        return Parallel.run(pool, v, (A x, List<A> out) -> {
+            if (p.test(x)) {
+                out.add(x);
+            }
+        });
+    }
+
+    public static <A, B> List<B> parFlatMap(List<A> v, Function<A, Optional<B>> f) {
+        return parFlatMap(ForkJoinPool.commonPool(), v, f);
+    }
+
+    public static <A, B> List<B> parFlatMap(ForkJoinPool pool, List<A> v, Function<A, Optional<B>> f) {
+        if (v.size() < Parallel.threshold()) {
+            return flatMap(v, f);
+        }
+        return Parallel.run(pool, v, (A x, List<B> out) -> {
+            Optional<B> b = f.apply(x);
+            if (b.isPresent()) {
+                out.add(b.get());
+            }
+        });
+    }
+
+    public static <A, B> List<B> parEMap(List<A> v, ExceptionalFunction<A, B> f) {
+        return parMap(v, f);
+    }
+
+    public static <A, B> List<B> parEMap(ForkJoinPool pool, List<A> v, ExceptionalFunction<A, B> f) {
+        return parMap(pool, v, f);
+    }
+
+    /**
+     * Reduce v with op as a balanced fork/join tree: contiguous runs are folded from identity on separate workers and
+     * neighbouring results combined in order.  op must be associative and identity its identity, as for
+     * Stream.reduce; then the result is the same as foldLeft(v, identity, op).
+     */
+    public static <A> A parReduce(List<A> v, A identity, BinaryOperator<A> op) {
+        return parReduce(ForkJoinPool.commonPool(), v, identity, op);
+    }
+
+    public static <A> A parReduce(ForkJoinPool pool, List<A> v, A identity, BinaryOperator<A> op) {
+        if (v.size() < Parallel.threshold()) {
+            return foldLeft(v, identity, op);
+        }
+        return Parallel.reduce(pool, v, identity, op);
+    }
+
+    public static <A> A parEReduce(List<A> v, A identity, ExceptionalBiFunction<A, A, A> op) {
+        return parReduce(v, identity, op::apply);
+    }
+
+    public static <A> A parEReduce(ForkJoinPool pool, List<A> v, A identity, ExceptionalBiFunction<A, A, A> op) {
+        return parReduce(pool, v, identity, op::apply);
+    }
+
+    /**
+     * Lists smaller than this are processed sequentially by the par* methods.  Defaults to the system property
+     * com.plexq.functional.parallelThreshold, or 8192.
+     */
+    public static int getParallelThreshold() {
+        return Parallel.threshold();
+    }
+
+    public static void setParallelThreshold(int threshold) {
+        Parallel.threshold(threshold);
+    }
+
+    /**
+     * Measure the list size at which parMap of f on the pool starts to beat map, using prefixes of sample.  The result
+     * is only returned, not applied; pass it to setParallelThreshold if it is representative of the workload.
+     * @return the smallest power of two size, from 256 up to the sample size, at which parallel was faster, or
+     * Integer.MAX_VALUE if it never was
+     */
+    public static <A, B> int calibrateParallelThreshold(ForkJoinPool pool, List<A> sample, Function<A, B> f) {
+        return Parallel.calibrate(pool, sample, f);
+    }
+
+    //
+    // Bounded concurrency for blocking calls.  At most maxInFlight calls of f run at once on the executor, results
+    // keep input order, and the calling thread blocks until all are done.  The first failure cancels the calls still
+    // in flight and is rethrown as eMap would throw it.  Without an executor, a virtual thread per call is used on
+    // JDKs that support it, and a shared cached daemon thread pool otherwise.
+    //
+
+    public static <A, B> List<B> eMapConcurrent(List<A> v, int maxInFlight, ExceptionalFunction<A, B> f) {
+        return eMapConcurrent(v, maxInFlight, Concurrent.defaultExecutor(), f);
+    }
+
+    public static <A, B> List<B> eMapConcurrent(List<A> v, int maxInFlight, Executor executor,
+            ExceptionalFunction<A, B> f) {
+        return Concurrent.run(v, maxInFlight, executor, f);
+    }
+
+    public static <A, B> List<B> eFlatMapConcurrent(List<A> v, int maxInFlight, ExceptionalFunction<A, List<B>> f) {
+        return eFlatMapConcurrent(v, maxInFlight, Concurrent.defaultExecutor(), f);
+    }
+
+    public static <A, B> List<B> eFlatMapConcurrent(List<A> v, int maxInFlight, Executor executor,
+            ExceptionalFunction<A, List<B>> f) {
+        List<List<B>> r = Concurrent.run(v, maxInFlight, executor, f);
+        List<B> flattened = new ArrayList<>();
+        for (List<B> x : r) {
+            flattened.addAll(x);
+        }
+        return flattened;
+    }
+
+    //
+    // Timeouts.  Elements are processed one at a time, in order, each call running on the executor while the
+    // calling thread waits for at most the time left under spec.  A call that overruns is interrupted and abandoned,
+    // then either fails the whole operation with an UncheckedExceptionalException caused by a TimeoutException, or,
+    // if spec skips timeouts, is left out of the result.
+    //
+
+    public static <A, B> List<B> eMap(List<A> v, TimeoutSpec spec, ExceptionalFunction<A, B> f) {
+        return eMap(v, spec, Concurrent.defaultExecutor(), f);
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <A, B> List<B> eMap(List<A> v, TimeoutSpec spec, Executor executor, ExceptionalFunction<A, B> f) {
+        Timeouts timeouts = new Timeouts(spec, executor);
+        List<B> r = new ArrayList<>(v.size());
+        int i = 0;
+        for (A x : v) {
+            Object b = timeouts.call(i++, x, f);
+            if (b != Timeouts.SKIPPED) {
+                r.add((B) b);
+            }
+        }
+        return r;
+    }
+
+    public static <A, B> List<B> eFlatMap(List<A> v, TimeoutSpec spec, ExceptionalFunction<A, List<B>> f) {
+        return eFlatMap(v, spec, Concurrent.defaultExecutor(), f);
+    }
+
+    public static <A, B> List<B> eFlatMap(List<A> v, TimeoutSpec spec, Executor executor,
+            ExceptionalFunction<A, List<B>> f) {
+        List<B> r = new ArrayList<>();
+        for (List<B> bs : eMap(v, spec, executor, f)) {
+            r.addAll(bs);
+        }
+        return r;
+    }
+
+    /**
+     * The first element, in input order, for which p holds.  With skipped timeouts, an element whose test overruns
+     * counts as not matching.
+     */
+    public static <A> Optional<A> eFind(List<A> v, TimeoutSpec spec, ExceptionalPredicate<A> p) {
+        return eFind(v, spec, Concurrent.defaultExecutor(), p);
+    }
+
+    public static <A> Optional<A> eFind(List<A> v, TimeoutSpec spec, Executor executor, ExceptionalPredicate<A> p) {
+        Timeouts timeouts = new Timeouts(spec, executor);
+        ExceptionalFunction<A, Boolean> test = p::apply;
+        int i = 0;
+        for (A x : v) {
+            if (Boolean.TRUE.equals(timeouts.call(i++, x, test))) {
+                return Optional.of(x);
+            }
+        }
+        return Optional.empty();
+    }
+
+    //
+    // Concurrent searches for slow predicates, on the same terms as eMapConcurrent: at most maxInFlight calls of the
+    // predicate run at once, and once the answer is known the calls still in flight are cancelled with interruption
+    // and no more are started.  parFind returns whichever match is found first in time; parFindFirst returns the
+    // match with the lowest index, as find on a sequential list would.  A predicate that throws ends the search the
+    // same way a match does, and its exception is rethrown.
+    //
+
+    public static <A> Optional<A> parFind(List<A> v, int maxInFlight, Predicate<A> p) {
+        return parFind(v, maxInFlight, Concurrent.defaultExecutor(), p);
+    }
+
+    public static <A> Optional<A> parFind(List<A> v, int maxInFlight, Executor executor, Predicate<A> p) {
+        return found(v, Search.find(v, maxInFlight, executor, p, false));
+    }
+
+    public static <A> Optional<A> parFindFirst(List<A> v, int maxInFlight, Predicate<A> p) {
+        return parFindFirst(v, maxInFlight, Concurrent.defaultExecutor(), p);
+    }
+
+    public static <A> Optional<A> parFindFirst(List<A> v, int maxInFlight, Executor executor, Predicate<A> p) {
+        return found(v, Search.find(v, maxInFlight, executor, p, true));
+    }
+
+    public static <A> Optional<A> parEFind(List<A> v, int maxInFlight, ExceptionalPredicate<A> p) {
+        return parFind(v, maxInFlight, p);
+    }
+
+    public static <A> Optional<A> parEFind(List<A> v, int maxInFlight, Executor executor, ExceptionalPredicate<A> p) {
+        return parFind(v, maxInFlight, executor, p);
+    }
+
+    public static <A> Optional<A> parEFindFirst(List<A> v, int maxInFlight, ExceptionalPredicate<A> p) {
+        return parFindFirst(v, maxInFlight, p);
+    }
+
+    public static <A> Optional<A> parEFindFirst(List<A> v, int maxInFlight, Executor executor,
+            ExceptionalPredicate<A> p) {
+        return parFindFirst(v, maxInFlight, executor, p);
+    }
+
+    public static <A> boolean parAnyMatch(List<A> v, int maxInFlight, Predicate<A> p) {
+        return parAnyMatch(v, maxInFlight, Concurrent.defaultExecutor(), p);
+    }
+
+    public static <A> boolean parAnyMatch(List<A> v, int maxInFlight, Executor executor, Predicate<A> p) {
+        return Search.find(v, maxInFlight, executor, p, false) >= 0;
+    }
+
+    /**
+     * True if p holds for every element.  The search stops at the first element for which p is false.
+     */
+    public static <A> boolean parAllMatch(List<A> v, int maxInFlight, Predicate<A> p) {
+        return parAllMatch(v, maxInFlight, Concurrent.defaultExecutor(), p);
+    }
+
+    public static <A> boolean parAllMatch(List<A> v, int maxInFlight, Executor executor, Predicate<A> p) {
+        return Search.find(v, maxInFlight, executor, p.negate(), false) < 0;
+    }
+
+    /**
+     * Every matching element, in input order.  Every element has to be tested, so only a failure stops this early.
+     */
+    public static <A> List<A> parFindAll(List<A> v, int maxInFlight, Predicate<A> p) {
+        return parFindAll(v, maxInFlight, Concurrent.defaultExecutor(), p);
+    }
+
+    public static <A> List<A> parFindAll(List<A> v, int maxInFlight, Executor executor, Predicate<A> p) {
+        List<Boolean> matches = Concurrent.run(v, maxInFlight, executor, p::test);
+        List<A> r = new ArrayList<>();
+        int i = 0;
+        for (A x : v) {
+            if (matches.get(i++)) {
+                r.add(x);
+            }
+        }
+        return r;
+    }
+
+    private static <A> Optional<A> found(List<A> v, int index) {
+        return index < 0 ? Optional.empty() : Optional.of(v.get(index));
+    }
+
+    //
+    // CompletableFuture adapters.  The futures returned fail with the exception the Exceptional* function threw,
+    // checked or not, never with the UncheckedExceptionalException or CompletionException wrapping it, and they are
+    // combined by callbacks rather than by a thread blocking on each.
+    //
+
+    public static <A> CompletableFuture<A> async(ExceptionalSupplier<A> s, Executor executor) {
+        return Async.supply(s, executor);
+    }
+
+    public static <A> CompletableFuture<A> async(ExceptionalSupplier<A> s) {
+        return async(s, Concurrent.defaultExecutor());
+    }
+
+    /**
+     * Run f on every element on the executor, all at once.  To bound how many run at a time, pass a bounded executor,
+     * or use eMapConcurrent.
+     */
+    public static <A, B> CompletableFuture<List<B>> eMapAsync(List<A> v, ExceptionalFunction<A, B> f,
+            Executor executor) {
+        return traverse(v, (A x) -> async(() -> f.f(x), executor));
+    }
+
+    public static <A, B> CompletableFuture<List<B>> eMapAsync(List<A> v, ExceptionalFunction<A, B> f) {
+        return eMapAsync(v, f, Concurrent.defaultExecutor());
+    }
+
+    /**
+     * Combine futures into a future of all their results, in order.  It fails as soon as any of them fails, with that
+     * failure unwrapped; the others are not cancelled.
+     */
+    public static <A> CompletableFuture<List<A>> sequence(List<? extends CompletableFuture<? extends A>> futures) {
+        return Async.sequence(futures);
+    }
+
+    public static <A, B> CompletableFuture<List<B>> traverse(List<A> v,
+            Function<A, ? extends CompletableFuture<? extends B>> f) {
+        return sequence(map(v, f));
+    }
+
+    //
+    // Failure accumulating maps.  The function's exception is caught directly from ExceptionalFunction.f, so a
+    // failing element costs only its own exception; nothing is wrapped or rethrown and the rest of the list is still
+    // processed.
+    //
+
+    public static <A, B> List<Try<B>> tryMap(List<A> v, ExceptionalFunction<A, B> f) {
+        List<Try<B>> r = new ArrayList<>(v.size());
+        for (A x : v) {
+            try {
+                r.add(Try.success(f.f(x)));
+            }
+            catch (Exception e) {
+                r.add(Try.failure(e));
+            }
+        }
+        return r;
+    }
+
+    /**
+     * Map every element, splitting the results in a single pass into the successes and the inputs which failed along
+     * with their exceptions.  Both lists keep input order.
+     */
+    public static <A, B> Tuple2<List<B>, List<Tuple2<A, Exception>>> partitionMap(List<A> v,
+            ExceptionalFunction<A, B> f) {
+        List<B> successes = new ArrayList<>(v.size());
+        List<Tuple2<A, Exception>> failures = new ArrayList<>();
+        for (A x : v) {
+            try {
+                successes.add(f.f(x));
+            }
+            catch (Exception e) {
+                failures.add(Tuple.tuple(x, e));
+            }
+        }
+        return Tuple.tuple(successes, failures);
+    }
+
+    /**
+     * Cache the results of f according to spec.  The returned function is safe to share between threads and exposes
+     * hit, miss and eviction counts.  f should be deterministic for the cache to be meaningful.
+     * @param f a function to memoize
+     * @param spec size bound, eviction policy, expiry and failure caching of the cache
+     * @param <A> Parameterized type of the function input, used as the cache key
+     * @param <B> Parameterized type of the function output
+     * @return a memoized view of f
+     */
+    public static <A, B> MemoizedFunction<A, B> memoize(ExceptionalFunction<A, B> f, CacheSpec spec) {
+        return new MemoizedFunction<>(f, spec);
+    }
+
+    public static <A, B> MemoizedFunction<A, B> memoize(ExceptionalFunction<A, B> f) {
+        return memoize(f, CacheSpec.unbounded());
+    }
+
+    /**
+     * Run s at most once successfully, on first use, and return the same value on every later call without locking.
+     * A failed load is not cached; the next call runs s again.
+     */
+    public static <A> LazySupplier<A> lazy(ExceptionalSupplier<A> s) {
+        return new LazySupplier<>(s);
+    }
+
+    /**
+     * Cache the value of s for ttl.  Once it goes stale, a single background refresh runs on the executor while
+     * callers keep getting the stale value; a failed refresh is retried by the next call.
+     */
+    public static <A> RefreshingSupplier<A> refreshing(ExceptionalSupplier<A> s, long ttl, TimeUnit unit,
+            Executor executor) {
+        return new RefreshingSupplier<>(s, unit.toNanos(ttl), executor);
+    }
+
+    public static <A> RefreshingSupplier<A> refreshing(ExceptionalSupplier<A> s, long ttl, TimeUnit unit) {
+        return refreshing(s, ttl, unit, Concurrent.defaultExecutor());
+    }
+
+    //
+    // Batched lookups.  Rather than calling f once per element, the distinct elements of v are cut into batches of
+    // at most batchSize and f is called once per batch.  The result has one entry per element of v, in input order,
+    // with duplicates sharing the result for their key.  Batches may be dispatched concurrently, with at most
+    // maxInFlight outstanding on the executor, with the failure semantics of eMapConcurrent.
+    //
+
+    /**
+     * f returns a map from each key of its batch to that key's result.  A key missing from a batch's map is an
+     * IllegalStateException naming the missing keys.
+     */
+    public static <A, B> List<B> eMapBatched(List<A> v, int batchSize, ExceptionalFunction<List<A>, Map<A, B>> f) {
+        return Batches.keyed(v, batchSize, 1, null, f);
+    }
+
+    public static <A, B> List<B> eMapBatched(List<A> v, int batchSize, int maxInFlight, Executor executor,
+            ExceptionalFunction<List<A>, Map<A, B>> f) {
+        return Batches.keyed(v, batchSize, maxInFlight, executor, f);
+    }
+
+    /**
+     * f returns a list of results positionally matching its batch.  A result list of the wrong size is an
+     * IllegalStateException.
+     */
+    public static <A, B> List<B> eMapBatchedOrdered(List<A> v, int batchSize,
+            ExceptionalFunction<List<A>, List<B>> f) {
+        return Batches.ordered(v, batchSize, 1, null, f);
+    }
+
+    public static <A, B> List<B> eMapBatchedOrdered(List<A> v, int batchSize, int maxInFlight, Executor executor,
+            ExceptionalFunction<List<A>, List<B>> f) {
+        return Batches.ordered(v, batchSize, maxInFlight, executor, f);
+    }
+
+    //
+    // Lazy overloads for sources too large to materialize.  Nothing is evaluated until the result is iterated, one
+    // element is pulled from the source at a time, and memory use stays constant.  Iterables are re-evaluated on every
+    // iteration.  Spliterator results split whenever their source does, so they can back a parallel Stream; see
+    // LineSource for streaming a file.
+    //
+
+    public static <A, B> Iterable<B> map(Iterable<A> v, Function<A, B> f) {
+        return () -> Iterators.map(v.iterator(), f);
+    }
+
+    public static <A, B> Iterator<B> map(Iterator<A> v, Function<A, B> f) {
+        return Iterators.map(v, f);
+    }
+
+    public static <A, B> Spliterator<B> map(Spliterator<A> v, Function<A, B> f) {
+        return Iterators.map(v, f);
+    }
+
+    public static <A> Iterable<A> filter(Iterable<A> v, Predicate<A> p) {
+        return () -> Iterators.filter(v.iterator(), p);
+    }
+
+    public static <A> Iterator<A> filter(Iterator<A> v, Predicate<A> p) {
+        return Iterators.filter(v, p);
+    }
+
+    public static <A> Spliterator<A> filter(Spliterator<A> v, Predicate<A> p) {
+        return Iterators.filter(v, p);
+    }
+
+    public static <A, B> Iterable<B> flatMap(Iterable<A> v, Function<A, Optional<B>> f) {
+        return () -> Iterators.flatMap(v.iterator(), f);
+    }
+
+    public static <A, B> Iterator<B> flatMap(Iterator<A> v, Function<A, Optional<B>> f) {
+        return Iterators.flatMap(v, f);
+    }
+
+    public static <A, B> Spliterator<B> flatMap(Spliterator<A> v, Function<A, Optional<B>> f) {
+        return Iterators.flatMap(v, f);
+    }
+
+    public static <A, B> Iterable<B> eMap(Iterable<A> v, ExceptionalFunction<A, B> f) {
+        return map(v, f);
+    }
+
+    public static <A, B> Iterator<B> eMap(Iterator<A> v, ExceptionalFunction<A, B> f) {
+        return map(v, f);
+    }
+
+    public static <A, B> Spliterator<B> eMap(Spliterator<A> v, ExceptionalFunction<A, B> f) {
+        return map(v, f);
+    }
+
+    public static <A> Iterable<Tuple2<Integer, A>> zipWithIndex(Iterable<A> a) {
+        return () -> Iterators.zipWithIndex(a.iterator());
+    }
+
+    public static <A> Iterator<Tuple2<Integer, A>> zipWithIndex(Iterator<A> a) {
+        return Iterators.zipWithIndex(a);
+    }
+
+    public static <A> Spliterator<Tuple2<Integer, A>> zipWithIndex(Spliterator<A> a) {
+        return Iterators.zipWithIndex(a, 0);
+    }
+
+    //
+    // Single pass aggregation.  Every element is fed to each collector in turn, so several aggregates of a list cost
+    // one traversal.  See Aggregates for collectors that don't box, and for the combined collectors themselves, which
+    // can also be used on parallel streams.
+    //
+
+    public static <A, R1, R2> Tuple2<R1, R2> aggregate(List<A> v, Collector<? super A, ?, R1> c1,
+            Collector<? super A, ?, R2> c2) {
+        return collect(v, Aggregates.both(c1, c2));
+    }
+
+    public static <A, R1, R2, R3> Tuple3<R1, R2, R3> aggregate(List<A> v, Collector<? super A, ?, R1> c1,
+            Collector<? super A, ?, R2> c2, Collector<? super A, ?, R3> c3) {
+        return collect(v, Aggregates.all(c1, c2, c3));
+    }
+
+    private static <A, S, R> R collect(List<A> v, Collector<A, S, R> c) {
+        S state = c.supplier().get();
+        BiConsumer<S, A> accumulator = c.accumulator();
+        if (v instanceof RandomAccess) {
+            int size = v.size();
+            for (int i = 0; i < size; i++) {
+                accumulator.accept(state, v.get(i));
+            }
+        }
+        else {
+            for (A x : v) {
+                accumulator.accept(state, x);
+            }
+        }
+        return c.finisher().apply(state);
+    }
+
+    //
+    // Persistent collections.  These overloads build their results directly as persistent structures, so a caller can
+    // go on to derive new versions with plus and with at O(log32 n) each, rather than copying a mutable result.
+    //
+
+    public static <A, B> PVector<B> map(PVector<A> v, Function<A, B> f) {
+        PVector.Builder<B> r = PVector.builder();
+        for (A x : v) {
+            r.add(f.apply(x));
+        }
+        return r.build();
+    }
+
+    public static <A> PVector<A> filter(PVector<A> v, Predicate<A> p) {
+        PVector.Builder<A> r = PVector.builder();
+        for (A x : v) {
+            if (p.test(x)) {
+                r.add(x);
+            }
+        }
+        return r.build();
+    }
+
+    public static <A, B> PVector<B> eMap(PVector<A> v, ExceptionalFunction<A, B> f) {
+        return map(v, f);
+    }
+
+    public static <K, V, W> PMap<K, W> mapValues(PMap<K, V> m, Function<V, W> f) {
+        return m.mapValues(f);
+    }
+
+    //
+    // Instrumentation.  Each call through the returned function reports its latency, and any exception's type, under
+    // name to the MetricsSink installed in Instrumentation, an in memory sink by default.
+    //
+
+    public static <A, B> ExceptionalFunction<A, B> instrumented(String name, ExceptionalFunction<A, B> f) {
+        return Instrumentation.function(name, f);
+    }
+
+    public static <A> ExceptionalConsumer<A> instrumentedC(String name, ExceptionalConsumer<A> f) {
+        return Instrumentation.consumer(name, f);
+    }
+
+    public static <A, B> ExceptionalBiConsumer<A, B> instrumentedBiC(String name, ExceptionalBiConsumer<A, B> f) {
+        return Instrumentation.biConsumer(name, f);
+    }
+
+    public static <A> ExceptionalPredicate<A> instrumentedP(String name, ExceptionalPredicate<A> f) {
+        return Instrumentation.predicate(name, f);
+    }
+
+    public static <A> ExceptionalSupplier<A> instrumentedS(String name, ExceptionalSupplier<A> f) {
+        return Instrumentation.supplier(name, f);
+    }
+
+    public static ExceptionalRunnable instrumentedR(String name, ExceptionalRunnable f) {
+        return Instrumentation.runnable(name, f);
     }
 }
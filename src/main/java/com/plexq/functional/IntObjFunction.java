@@ -0,0 +1,10 @@
+package com.plexq.functional;
+
+/**
+ * A function of a primitive int and an object, typically an index and the element at that index.  The int is never
+ * boxed, unlike BiFunction&lt;Integer, A, B&gt;.
+ */
+@FunctionalInterface
+public interface IntObjFunction<A, B> {
+    B apply(int i, A a);
+}
@@ -0,0 +1,10 @@
+package com.plexq.functional;
+
+/**
+ * A step of a fold with a primitive int accumulator: combines the accumulator so far with the next element.  The
+ * accumulator is never boxed, unlike BiFunction&lt;Integer, A, Integer&gt;.
+ */
+@FunctionalInterface
+public interface IntObjToIntFunction<A> {
+    int apply(int acc, A a);
+}
@@ -0,0 +1,252 @@
+package com.plexq.functional;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import com.plexq.functional.Tuple.Tuple2;
+
+/**
+ * Lazy Iterator and Spliterator adapters behind the Iterable, Iterator and Spliterator overloads of Functional.  Each
+ * pulls one element at a time from its source, so memory use is constant however large the source is.
+ */
+final class Iterators {
+    private Iterators() {
+    }
+
+    static <A, B> Iterator<B> map(Iterator<A> source, Function<A, B> f) {
+        return new Iterator<B>() {
+            @Override
+            public boolean hasNext() {
+                return source.hasNext();
+            }
+
+            @Override
+            public B next() {
+                return f.apply(source.next());
+            }
+        };
+    }
+
+    static <A, B> Iterator<B> flatMap(Iterator<A> source, Function<A, Optional<B>> f) {
+        return new Iterator<B>() {
+            private Optional<B> next = Optional.empty();
+            private boolean ready;
+
+            @Override
+            public boolean hasNext() {
+                while (!ready && source.hasNext()) {
+                    next = f.apply(source.next());
+                    ready = next.isPresent();
+                }
+                return ready;
+            }
+
+            @Override
+            public B next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                ready = false;
+                return next.get();
+            }
+        };
+    }
+
+    static <A> Iterator<A> filter(Iterator<A> source, Predicate<A> p) {
+        return new Iterator<A>() {
+            private A next;
+            private boolean ready;
+
+            @Override
+            public boolean hasNext() {
+                while (!ready && source.hasNext()) {
+                    A a = source.next();
+                    if (p.test(a)) {
+                        next = a;
+                        ready = true;
+                    }
+                }
+                return ready;
+            }
+
+            @Override
+            public A next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                ready = false;
+                A a = next;
+                next = null;
+                return a;
+            }
+        };
+    }
+
+    static <A> Iterator<Tuple2<Integer, A>> zipWithIndex(Iterator<A> source) {
+        return new Iterator<Tuple2<Integer, A>>() {
+            private int index;
+
+            @Override
+            public boolean hasNext() {
+                return source.hasNext();
+            }
+
+            @Override
+            public Tuple2<Integer, A> next() {
+                return Tuple.tuple(index++, source.next());
+            }
+        };
+    }
+
+    /**
+     * The first n values of next.
+     */
+    static <A> Iterator<A> generate(int n, Supplier<A> next) {
+        return new Iterator<A>() {
+            private int remaining = n;
+
+            @Override
+            public boolean hasNext() {
+                return remaining > 0;
+            }
+
+            @Override
+            public A next() {
+                if (remaining <= 0) {
+                    throw new NoSuchElementException();
+                }
+                remaining--;
+                return next.get();
+            }
+        };
+    }
+
+    static <A, B> Spliterator<B> map(Spliterator<A> source, Function<A, B> f) {
+        return new Spliterator<B>() {
+            @Override
+            public boolean tryAdvance(Consumer<? super B> action) {
+                return source.tryAdvance(a -> action.accept(f.apply(a)));
+            }
+
+            @Override
+            public void forEachRemaining(Consumer<? super B> action) {
+                source.forEachRemaining(a -> action.accept(f.apply(a)));
+            }
+
+            @Override
+            public Spliterator<B> trySplit() {
+                Spliterator<A> prefix = source.trySplit();
+                return prefix == null ? null : map(prefix, f);
+            }
+
+            @Override
+            public long estimateSize() {
+                return source.estimateSize();
+            }
+
+            @Override
+            public int characteristics() {
+                return source.characteristics() & (SIZED | SUBSIZED | ORDERED | IMMUTABLE | CONCURRENT);
+            }
+        };
+    }
+
+    static <A, B> Spliterator<B> flatMap(Spliterator<A> source, Function<A, Optional<B>> f) {
+        return new Spliterator<B>() {
+            @Override
+            public boolean tryAdvance(Consumer<? super B> action) {
+                boolean[] emitted = new boolean[1];
+                while (!emitted[0] && source.tryAdvance(a -> {
+                    Optional<B> b = f.apply(a);
+                    if (b.isPresent()) {
+                        emitted[0] = true;
+                        action.accept(b.get());
+                    }
+                })) {
+                    // Keep pulling until something is emitted or the source is exhausted
+                }
+                return emitted[0];
+            }
+
+            @Override
+            public void forEachRemaining(Consumer<? super B> action) {
+                source.forEachRemaining(a -> {
+                    Optional<B> b = f.apply(a);
+                    if (b.isPresent()) {
+                        action.accept(b.get());
+                    }
+                });
+            }
+
+            @Override
+            public Spliterator<B> trySplit() {
+                Spliterator<A> prefix = source.trySplit();
+                return prefix == null ? null : flatMap(prefix, f);
+            }
+
+            @Override
+            public long estimateSize() {
+                return source.estimateSize();
+            }
+
+            @Override
+            public int characteristics() {
+                return source.characteristics() & (ORDERED | IMMUTABLE | CONCURRENT);
+            }
+        };
+    }
+
+    static <A> Spliterator<A> filter(Spliterator<A> source, Predicate<A> p) {
+        return flatMap(source, a -> p.test(a) ? Optional.of(a) : Optional.empty());
+    }
+
+    /**
+     * Index the elements of source starting from base.  Splitting is only possible when the source knows the exact size
+     * of each split, SUBSIZED, since the suffix's starting index depends on the size of the prefix.
+     */
+    static <A> Spliterator<Tuple2<Integer, A>> zipWithIndex(Spliterator<A> source, int base) {
+        return new Spliterator<Tuple2<Integer, A>>() {
+            private int index = base;
+
+            @Override
+            public boolean tryAdvance(Consumer<? super Tuple2<Integer, A>> action) {
+                return source.tryAdvance(a -> action.accept(Tuple.tuple(index++, a)));
+            }
+
+            @Override
+            public void forEachRemaining(Consumer<? super Tuple2<Integer, A>> action) {
+                source.forEachRemaining(a -> action.accept(Tuple.tuple(index++, a)));
+            }
+
+            @Override
+            public Spliterator<Tuple2<Integer, A>> trySplit() {
+                if (!source.hasCharacteristics(SUBSIZED)) {
+                    return null;
+                }
+                Spliterator<A> prefix = source.trySplit();
+                if (prefix == null) {
+                    return null;
+                }
+                Spliterator<Tuple2<Integer, A>> r = zipWithIndex(prefix, index);
+                index += (int) prefix.estimateSize();
+                return r;
+            }
+
+            @Override
+            public long estimateSize() {
+                return source.estimateSize();
+            }
+
+            @Override
+            public int characteristics() {
+                return (source.characteristics() & (SIZED | SUBSIZED | IMMUTABLE | CONCURRENT)) | ORDERED | NONNULL;
+            }
+        };
+    }
+}
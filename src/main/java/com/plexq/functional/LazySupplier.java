@@ -0,0 +1,40 @@
+package com.plexq.functional;
+
+/**
+ * An ExceptionalSupplier which runs its underlying supplier at most once successfully, built by Functional.lazy.
+ *
+ * Initialization is double-checked: the first callers synchronize while the value loads, and once it has loaded every
+ * call is a single volatile read with no locking.  If the load throws, nothing is cached and the next call tries again.
+ */
+public final class LazySupplier<A> implements ExceptionalSupplier<A> {
+    private static final Object UNSET = new Object();
+
+    private volatile Object value = UNSET;
+    // Dropped once the value has loaded, so anything it captured can be collected
+    private ExceptionalSupplier<A> supplier;
+
+    LazySupplier(ExceptionalSupplier<A> supplier) {
+        this.supplier = supplier;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public A apply() throws Exception {
+        Object v = value;
+        if (v == UNSET) {
+            synchronized (this) {
+                v = value;
+                if (v == UNSET) {
+                    v = supplier.apply();
+                    value = v;
+                    supplier = null;
+                }
+            }
+        }
+        return (A) v;
+    }
+
+    public boolean isInitialized() {
+        return value != UNSET;
+    }
+}
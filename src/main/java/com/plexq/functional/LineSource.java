@@ -0,0 +1,155 @@
+package com.plexq.functional;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * The records of a file, read through a memory mapped window that slides along a FileChannel, as a lazy Iterable.
+ * Only one window of the file is mapped at a time, and records are decoded one at a time, so a file of any size can be
+ * fed through the Iterable overloads of Functional with a heap bounded by the longest record:
+ * <pre>
+ *     try (LineSource lines = LineSource.open(path)) {
+ *         for (Row r : Functional.eMap(lines, Row::parse)) {
+ *             ...
+ *         }
+ *     }
+ * </pre>
+ * Records are separated by a single delimiter byte, a newline by default, in which case a trailing carriage return is
+ * also stripped.  The charset must encode the delimiter as that single byte, as UTF-8, ISO-8859-1 and US-ASCII do.
+ * A delimiter at the very end of the file does not produce a trailing empty record.
+ *
+ * Each call to iterator() reads the file afresh from the start.  I/O failures surface as UncheckedIOException.
+ */
+public final class LineSource implements Iterable<String>, Closeable {
+    static final int DEFAULT_WINDOW = 16 * 1024 * 1024;
+
+    private final FileChannel channel;
+    private final Charset charset;
+    private final byte delimiter;
+    private final int window;
+
+    LineSource(FileChannel channel, Charset charset, byte delimiter, int window) {
+        this.channel = channel;
+        this.charset = charset;
+        this.delimiter = delimiter;
+        this.window = window;
+    }
+
+    public static LineSource open(Path path) throws IOException {
+        return open(path, StandardCharsets.UTF_8);
+    }
+
+    public static LineSource open(Path path, Charset charset) throws IOException {
+        return open(path, charset, (byte) '\n');
+    }
+
+    public static LineSource open(Path path, Charset charset, byte delimiter) throws IOException {
+        return new LineSource(FileChannel.open(path, StandardOpenOption.READ), charset, delimiter, DEFAULT_WINDOW);
+    }
+
+    @Override
+    public Iterator<String> iterator() {
+        return new Iterator<String>() {
+            private ByteBuffer buffer;
+            private long bufferStart;
+            private String next;
+            private boolean done;
+
+            @Override
+            public boolean hasNext() {
+                if (next == null && !done) {
+                    try {
+                        next = read();
+                    }
+                    catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                    done = next == null;
+                }
+                return next != null;
+            }
+
+            @Override
+            public String next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                String r = next;
+                next = null;
+                return r;
+            }
+
+            private String read() throws IOException {
+                ByteArrayOutputStream overflow = null;
+                while (true) {
+                    if (buffer == null || !buffer.hasRemaining()) {
+                        long start = buffer == null ? 0 : bufferStart + buffer.limit();
+                        long size = channel.size();
+                        if (start >= size) {
+                            return overflow == null ? null : decode(ByteBuffer.wrap(overflow.toByteArray()));
+                        }
+                        bufferStart = start;
+                        buffer = channel.map(FileChannel.MapMode.READ_ONLY, start, Math.min(window, size - start));
+                    }
+                    int from = buffer.position();
+                    int limit = buffer.limit();
+                    int end = from;
+                    while (end < limit && buffer.get(end) != delimiter) {
+                        end++;
+                    }
+                    if (end < limit) {
+                        ((Buffer) buffer).position(end + 1);
+                        ByteBuffer record = slice(from, end);
+                        if (overflow == null) {
+                            return decode(record);
+                        }
+                        append(overflow, record);
+                        return decode(ByteBuffer.wrap(overflow.toByteArray()));
+                    }
+                    if (overflow == null) {
+                        overflow = new ByteArrayOutputStream();
+                    }
+                    append(overflow, slice(from, limit));
+                    ((Buffer) buffer).position(limit);
+                }
+            }
+
+            private ByteBuffer slice(int from, int to) {
+                ByteBuffer b = buffer.duplicate();
+                ((Buffer) b).position(from);
+                ((Buffer) b).limit(to);
+                return b;
+            }
+        };
+    }
+
+    private static void append(ByteArrayOutputStream out, ByteBuffer b) {
+        byte[] bytes = new byte[b.remaining()];
+        b.get(bytes);
+        out.write(bytes, 0, bytes.length);
+    }
+
+    private String decode(ByteBuffer record) {
+        String r = charset.decode(record).toString();
+        if (delimiter == '\n' && r.endsWith("\r")) {
+            return r.substring(0, r.length() - 1);
+        }
+        return r;
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
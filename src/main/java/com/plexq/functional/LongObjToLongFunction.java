@@ -0,0 +1,10 @@
+package com.plexq.functional;
+
+/**
+ * A step of a fold with a primitive long accumulator: combines the accumulator so far with the next element.  The
+ * accumulator is never boxed, unlike BiFunction&lt;Long, A, Long&gt;.
+ */
+@FunctionalInterface
+public interface LongObjToLongFunction<A> {
+    long apply(long acc, A a);
+}
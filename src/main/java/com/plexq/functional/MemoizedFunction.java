@@ -0,0 +1,226 @@
+package com.plexq.functional;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * An ExceptionalFunction backed by a concurrent cache, built by Functional.memoize.
+ *
+ * Keys are spread over lock striped segments, each an access or insertion ordered LinkedHashMap guarded by its own
+ * lock, so callers only contend when their keys share a segment.  The lock is held just for the map lookup or
+ * insertion, never while the function runs.  Concurrent callers for the same missing key wait on the first caller's
+ * computation rather than all running the function.
+ *
+ * Counters are LongAdders, so reading them is cheap and updating them doesn't contend.
+ */
+public final class MemoizedFunction<A, B> implements ExceptionalFunction<A, B> {
+    private static final int MAX_SEGMENTS = 16;
+    private static final int MIN_SEGMENT_SIZE = 64;
+    private static final int LFU_SAMPLE = 8;
+
+    private final ExceptionalFunction<A, B> f;
+    private final CacheSpec spec;
+    private final Segment<A, B>[] segments;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    MemoizedFunction(ExceptionalFunction<A, B> f, CacheSpec spec) {
+        this.f = f;
+        this.spec = spec;
+        int n = 1;
+        while (n < MAX_SEGMENTS && (long) n * 2 * MIN_SEGMENT_SIZE <= spec.getMaximumSize()) {
+            n <<= 1;
+        }
+        long perSegment = spec.getMaximumSize() == Long.MAX_VALUE ? Long.MAX_VALUE
+                : (spec.getMaximumSize() + n - 1) / n;
+        segments = new Segment[n];
+        for (int i = 0; i < n; i++) {
+            segments[i] = new Segment<>(perSegment, spec.getEviction() == CacheSpec.Eviction.LRU);
+        }
+    }
+
+    @Override
+    public B f(A a) throws Exception {
+        Segment<A, B> segment = segmentFor(a);
+        Entry<B> entry;
+        Entry<B> created = null;
+        segment.lock.lock();
+        try {
+            entry = segment.map.get(a);
+            if (entry != null && entry.expired(spec.getExpireAfterWriteNanos())) {
+                segment.map.remove(a);
+                entry = null;
+            }
+            if (entry == null) {
+                created = new Entry<>();
+                segment.map.put(a, created);
+                evictions.add(segment.evict());
+                entry = created;
+            }
+            else {
+                entry.frequency++;
+            }
+        }
+        finally {
+            segment.lock.unlock();
+        }
+
+        if (created == null) {
+            hits.increment();
+            return entry.await();
+        }
+        misses.increment();
+        try {
+            B b = f.f(a);
+            created.complete(b);
+            return b;
+        }
+        catch (Throwable t) {
+            // Errors too: an entry left incomplete would block every later caller for this key
+            if (!spec.isCacheFailures()) {
+                segment.lock.lock();
+                try {
+                    segment.map.remove(a, created);
+                }
+                finally {
+                    segment.lock.unlock();
+                }
+            }
+            created.fail(t);
+            throw t;
+        }
+    }
+
+    public long hitCount() {
+        return hits.sum();
+    }
+
+    public long missCount() {
+        return misses.sum();
+    }
+
+    public long evictionCount() {
+        return evictions.sum();
+    }
+
+    /**
+     * @return the number of entries currently cached, including any expired ones not yet removed
+     */
+    public long size() {
+        long size = 0;
+        for (Segment<A, B> segment : segments) {
+            segment.lock.lock();
+            try {
+                size += segment.map.size();
+            }
+            finally {
+                segment.lock.unlock();
+            }
+        }
+        return size;
+    }
+
+    public void invalidateAll() {
+        for (Segment<A, B> segment : segments) {
+            segment.lock.lock();
+            try {
+                segment.map.clear();
+            }
+            finally {
+                segment.lock.unlock();
+            }
+        }
+    }
+
+    private Segment<A, B> segmentFor(A a) {
+        int h = a == null ? 0 : a.hashCode();
+        h ^= h >>> 16;
+        return segments[h & (segments.length - 1)];
+    }
+
+    private static final class Entry<B> {
+        private final CompletableFuture<B> result = new CompletableFuture<>();
+        // Written under the segment lock
+        private int frequency;
+        private volatile long writtenAt;
+
+        void complete(B b) {
+            writtenAt = System.nanoTime();
+            result.complete(b);
+        }
+
+        void fail(Throwable t) {
+            writtenAt = System.nanoTime();
+            result.completeExceptionally(t);
+        }
+
+        boolean expired(long expireAfterWriteNanos) {
+            return expireAfterWriteNanos > 0 && result.isDone()
+                    && System.nanoTime() - writtenAt >= expireAfterWriteNanos;
+        }
+
+        B await() throws Exception {
+            try {
+                return result.get();
+            }
+            catch (ExecutionException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof Exception) {
+                    throw (Exception) cause;
+                }
+                throw Exceptions.sneakyThrow(cause);
+            }
+        }
+    }
+
+    private static final class Segment<A, B> {
+        final ReentrantLock lock = new ReentrantLock();
+        final LinkedHashMap<A, Entry<B>> map;
+        final long maximumSize;
+        final boolean lru;
+
+        Segment(long maximumSize, boolean lru) {
+            this.maximumSize = maximumSize;
+            this.lru = lru;
+            this.map = new LinkedHashMap<>(16, 0.75f, lru);
+        }
+
+        /**
+         * Called with the lock held, after an insertion.  For LRU the head of the access ordered map is the victim;
+         * for LFU the least frequently used among the oldest few insertions is.
+         * @return the number of entries evicted
+         */
+        int evict() {
+            int evicted = 0;
+            while (map.size() > maximumSize) {
+                Iterator<Map.Entry<A, Entry<B>>> it = map.entrySet().iterator();
+                if (lru) {
+                    it.next();
+                    it.remove();
+                }
+                else {
+                    A victim = null;
+                    int lowest = Integer.MAX_VALUE;
+                    for (int i = 0; i < LFU_SAMPLE && it.hasNext(); i++) {
+                        Map.Entry<A, Entry<B>> e = it.next();
+                        // Never evict the entry just inserted, which is last, unless it is all there is
+                        if (e.getValue().frequency < lowest && (it.hasNext() || victim == null)) {
+                            victim = e.getKey();
+                            lowest = e.getValue().frequency;
+                        }
+                    }
+                    map.remove(victim);
+                }
+                evicted++;
+            }
+            return evicted;
+        }
+    }
+}
@@ -0,0 +1,250 @@
+package com.plexq.functional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.BiConsumer;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+
+/**
+ * Fork/join machinery behind the par* methods of Functional.
+ *
+ * The input is cut into contiguous leaves, a few per worker, and each leaf emits its results into its own list; the
+ * leaf lists are concatenated in order at the end, so output order always matches input order.
+ *
+ * Failures are deterministic: the exception thrown is the one from the lowest failing index, exactly what the
+ * sequential path would have thrown.  Once an element fails, work on every element after it is abandoned, while
+ * elements before it still run in case one of them fails first.
+ */
+final class Parallel {
+    static final String THRESHOLD_PROPERTY = "com.plexq.functional.parallelThreshold";
+    static final int DEFAULT_THRESHOLD = 8192;
+
+    private static volatile int threshold = Integer.getInteger(THRESHOLD_PROPERTY, DEFAULT_THRESHOLD);
+
+    private Parallel() {
+    }
+
+    static int threshold() {
+        return threshold;
+    }
+
+    static void threshold(int t) {
+        if (t < 0) {
+            throw new IllegalArgumentException("Parallel threshold must not be negative: " + t);
+        }
+        threshold = t;
+    }
+
+    /**
+     * Run step over every element of v on the pool, returning everything emitted in input order.
+     */
+    static <A, B> List<B> run(ForkJoinPool pool, List<A> v, BiConsumer<A, List<B>> step) {
+        List<A> source = v instanceof RandomAccess ? v : new ArrayList<>(v);
+        int size = source.size();
+        if (size == 0) {
+            return new ArrayList<>();
+        }
+        int leafSize = Math.max(1, size / (pool.getParallelism() << 2));
+        int leaves = (size + leafSize - 1) / leafSize;
+
+        List<B>[] chunks = newChunks(leaves);
+        Failure failure = new Failure();
+        pool.invoke(new Task<>(source, leafSize, 0, leaves, step, chunks, failure));
+        failure.rethrow();
+
+        int total = 0;
+        for (List<B> chunk : chunks) {
+            total += chunk.size();
+        }
+        List<B> r = new ArrayList<>(total);
+        for (List<B> chunk : chunks) {
+            r.addAll(chunk);
+        }
+        return r;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static <B> List<B>[] newChunks(int n) {
+        return new List[n];
+    }
+
+    /**
+     * Reduce v with op over a balanced tree: each leaf folds its contiguous run from identity, and each pair of
+     * neighbouring results is combined left to right, so the result equals the sequential fold when op is associative
+     * and identity is its identity.
+     */
+    static <A> A reduce(ForkJoinPool pool, List<A> v, A identity, BinaryOperator<A> op) {
+        List<A> source = v instanceof RandomAccess ? v : new ArrayList<>(v);
+        int size = source.size();
+        if (size == 0) {
+            return identity;
+        }
+        int leafSize = Math.max(1, size / (pool.getParallelism() << 2));
+        int leaves = (size + leafSize - 1) / leafSize;
+
+        Failure failure = new Failure();
+        A r = pool.invoke(new ReduceTask<>(source, leafSize, 0, leaves, identity, op, failure));
+        failure.rethrow();
+        return r;
+    }
+
+    /**
+     * Find the smallest power of two list size, starting at 256, at which running f over a prefix of sample on the
+     * pool beats running it sequentially.  Returns Integer.MAX_VALUE if parallel never wins within the sample.
+     */
+    static <A, B> int calibrate(ForkJoinPool pool, List<A> sample, Function<A, B> f) {
+        for (int n = 256; n <= sample.size(); n <<= 1) {
+            List<A> prefix = new ArrayList<>(sample.subList(0, n));
+            long sequential = Long.MAX_VALUE;
+            long parallel = Long.MAX_VALUE;
+            for (int round = 0; round < 8; round++) {
+                long start = System.nanoTime();
+                Functional.map(prefix, f);
+                long middle = System.nanoTime();
+                run(pool, prefix, (A a, List<B> out) -> out.add(f.apply(a)));
+                long end = System.nanoTime();
+                sequential = Math.min(sequential, middle - start);
+                parallel = Math.min(parallel, end - middle);
+            }
+            if (parallel < sequential) {
+                return n;
+            }
+        }
+        return Integer.MAX_VALUE;
+    }
+
+    private static final class Failure {
+        private volatile int index = Integer.MAX_VALUE;
+        private Throwable cause;
+
+        synchronized void record(int i, Throwable t) {
+            if (i < index) {
+                cause = t;
+                index = i;
+            }
+        }
+
+        boolean abandoned(int i) {
+            return i > index;
+        }
+
+        boolean failed() {
+            return index != Integer.MAX_VALUE;
+        }
+
+        synchronized void rethrow() {
+            if (cause != null) {
+                // A function made sneaky can throw a checked exception, which goes on out the same way
+                throw Exceptions.sneakyThrow(cause);
+            }
+        }
+    }
+
+    private static final class Task<A, B> extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final List<A> source;
+        private final int leafSize;
+        private final int lo;
+        private final int hi;
+        private final BiConsumer<A, List<B>> step;
+        private final List<B>[] chunks;
+        private final Failure failure;
+
+        Task(List<A> source, int leafSize, int lo, int hi, BiConsumer<A, List<B>> step, List<B>[] chunks,
+                Failure failure) {
+            this.source = source;
+            this.leafSize = leafSize;
+            this.lo = lo;
+            this.hi = hi;
+            this.step = step;
+            this.chunks = chunks;
+            this.failure = failure;
+        }
+
+        @Override
+        protected void compute() {
+            if (hi - lo > 1) {
+                int mid = (lo + hi) >>> 1;
+                invokeAll(new Task<>(source, leafSize, lo, mid, step, chunks, failure),
+                        new Task<>(source, leafSize, mid, hi, step, chunks, failure));
+                return;
+            }
+            int start = lo * leafSize;
+            int end = Math.min(source.size(), start + leafSize);
+            List<B> out = new ArrayList<>(end - start);
+            chunks[lo] = out;
+            for (int i = start; i < end && !failure.abandoned(i); i++) {
+                try {
+                    step.accept(source.get(i), out);
+                }
+                catch (Throwable e) {
+                    failure.record(i, e);
+                    return;
+                }
+            }
+        }
+    }
+
+    private static final class ReduceTask<A> extends RecursiveTask<A> {
+        private static final long serialVersionUID = 1L;
+
+        private final List<A> source;
+        private final int leafSize;
+        private final int lo;
+        private final int hi;
+        private final A identity;
+        private final BinaryOperator<A> op;
+        private final Failure failure;
+
+        ReduceTask(List<A> source, int leafSize, int lo, int hi, A identity, BinaryOperator<A> op, Failure failure) {
+            this.source = source;
+            this.leafSize = leafSize;
+            this.lo = lo;
+            this.hi = hi;
+            this.identity = identity;
+            this.op = op;
+            this.failure = failure;
+        }
+
+        @Override
+        protected A compute() {
+            if (hi - lo > 1) {
+                int mid = (lo + hi) >>> 1;
+                ReduceTask<A> right = new ReduceTask<>(source, leafSize, mid, hi, identity, op, failure);
+                right.fork();
+                A l = new ReduceTask<>(source, leafSize, lo, mid, identity, op, failure).compute();
+                A r = right.join();
+                if (failure.failed()) {
+                    return identity;
+                }
+                try {
+                    return op.apply(l, r);
+                }
+                catch (Throwable e) {
+                    // Attribute a failure to combine to the first element of the right hand side
+                    failure.record(mid * leafSize, e);
+                    return identity;
+                }
+            }
+            int start = lo * leafSize;
+            int end = Math.min(source.size(), start + leafSize);
+            A acc = identity;
+            for (int i = start; i < end && !failure.abandoned(i); i++) {
+                try {
+                    acc = op.apply(acc, source.get(i));
+                }
+                catch (Throwable e) {
+                    failure.record(i, e);
+                    return identity;
+                }
+            }
+            return acc;
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.plexq.functional;
+
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * The few operations that have a cheaper implementation on newer JDKs.  This is the Java 8 baseline; the jar is
+ * multi-release, and src/main/java17 holds a replacement of this class that newer JVMs load instead.  Both must keep
+ * the same methods, and Functional and the rest go through here rather than calling the newer APIs themselves.
+ */
+final class Platform {
+    private Platform() {
+    }
+
+    static <A, B> Stream<B> flatMap(Stream<A> s, Function<A, Optional<B>> f) {
+        return s.map(f).filter(Optional::isPresent).map(Optional::get);
+    }
+
+    static int checkIndex(int i, int size) {
+        if (i < 0 || i >= size) {
+            throw new IndexOutOfBoundsException("Index: " + i + ", Size: " + size);
+        }
+        return i;
+    }
+}
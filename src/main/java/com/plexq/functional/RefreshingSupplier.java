@@ -0,0 +1,87 @@
+package com.plexq.functional;
+
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * An ExceptionalSupplier which caches its underlying supplier's value for a time to live, built by
+ * Functional.refreshing.
+ *
+ * The first load happens on the calling thread, as with LazySupplier.  After that, callers are never blocked: once the
+ * value is older than the time to live, the first caller to notice starts a single refresh on the executor, and every
+ * caller, that one included, gets the stale value until the refresh lands.  A failed refresh leaves the stale value in
+ * place and is retried by the next call.
+ */
+public final class RefreshingSupplier<A> implements ExceptionalSupplier<A> {
+    private static final class Snapshot<A> {
+        final A value;
+        final long loadedAt;
+
+        Snapshot(A value, long loadedAt) {
+            this.value = value;
+            this.loadedAt = loadedAt;
+        }
+    }
+
+    private final ExceptionalSupplier<A> supplier;
+    private final long ttlNanos;
+    private final Executor executor;
+    private final AtomicBoolean refreshing = new AtomicBoolean();
+    private volatile Snapshot<A> current;
+    private volatile Exception lastFailure;
+
+    RefreshingSupplier(ExceptionalSupplier<A> supplier, long ttlNanos, Executor executor) {
+        if (ttlNanos <= 0) {
+            throw new IllegalArgumentException("Time to live must be positive: " + ttlNanos);
+        }
+        this.supplier = supplier;
+        this.ttlNanos = ttlNanos;
+        this.executor = executor;
+    }
+
+    @Override
+    public A apply() throws Exception {
+        Snapshot<A> s = current;
+        if (s == null) {
+            synchronized (this) {
+                s = current;
+                if (s == null) {
+                    s = new Snapshot<>(supplier.apply(), System.nanoTime());
+                    current = s;
+                }
+            }
+            return s.value;
+        }
+        if (System.nanoTime() - s.loadedAt >= ttlNanos && refreshing.compareAndSet(false, true)) {
+            try {
+                executor.execute(this::refresh);
+            }
+            catch (RuntimeException e) {
+                refreshing.set(false);
+                throw e;
+            }
+        }
+        return s.value;
+    }
+
+    private void refresh() {
+        try {
+            current = new Snapshot<>(supplier.apply(), System.nanoTime());
+            lastFailure = null;
+        }
+        catch (Exception e) {
+            lastFailure = e;
+        }
+        finally {
+            refreshing.set(false);
+        }
+    }
+
+    /**
+     * @return the exception from the most recent background refresh, if it failed
+     */
+    public Optional<Exception> getLastFailure() {
+        return Optional.ofNullable(lastFailure);
+    }
+}
@@ -0,0 +1,156 @@
+package com.plexq.functional;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Predicate;
+
+/**
+ * Concurrent short-circuiting search behind parFind and its relatives.  Like Concurrent, at most maxInFlight
+ * predicate calls run at once on the executor, and it is meant for slow, blocking predicates.
+ *
+ * An element resolves the search when its predicate matches or throws.  With findFirst off, the first element to
+ * resolve by time wins.  With findFirst on, the lowest resolving index wins, exactly as a sequential scan would: once
+ * an element resolves, calls for later elements are cancelled and never submitted, while calls for earlier elements
+ * run on in case one of them resolves first.  Either way, calls that can no longer affect the result are cancelled
+ * with interruption.
+ */
+final class Search<A> {
+    private static final int NONE = Integer.MAX_VALUE;
+
+    private final List<A> v;
+    private final Predicate<A> p;
+    private final boolean findFirst;
+    private final Semaphore permits;
+    private final AtomicReferenceArray<FutureTask<Void>> tasks;
+    // One for the submitting thread plus one per submitted task not yet done
+    private final AtomicInteger pending = new AtomicInteger(1);
+    private final CountDownLatch finished = new CountDownLatch(1);
+    private volatile int submitted;
+    private volatile int index = NONE;
+    private Throwable cause;
+
+    private Search(List<A> v, int maxInFlight, Predicate<A> p, boolean findFirst) {
+        this.v = v;
+        this.p = p;
+        this.findFirst = findFirst;
+        this.permits = new Semaphore(maxInFlight);
+        this.tasks = new AtomicReferenceArray<>(v.size());
+    }
+
+    /**
+     * @return the index of the matching element of v, or -1 if none matched
+     */
+    static <A> int find(List<A> v, int maxInFlight, Executor executor, Predicate<A> p, boolean findFirst) {
+        if (maxInFlight < 1) {
+            throw new IllegalArgumentException("maxInFlight must be at least 1: " + maxInFlight);
+        }
+        return new Search<>(v, maxInFlight, p, findFirst).run(executor);
+    }
+
+    private boolean settled(int i) {
+        return findFirst ? i > index : index != NONE;
+    }
+
+    private int run(Executor executor) {
+        try {
+            int i = 0;
+            for (A a : v) {
+                permits.acquire();
+                if (settled(i)) {
+                    permits.release();
+                    break;
+                }
+                FutureTask<Void> task = new Task(i, a);
+                tasks.set(i, task);
+                submitted = i + 1;
+                pending.incrementAndGet();
+                executor.execute(task);
+                i++;
+            }
+            done();
+            finished.await();
+        }
+        catch (InterruptedException e) {
+            cancelFrom(0);
+            Thread.currentThread().interrupt();
+            throw new UncheckedExceptionalException(e);
+        }
+        catch (RuntimeException | Error e) {
+            cancelFrom(0);
+            throw e;
+        }
+        cancelFrom(0);
+
+        synchronized (this) {
+            if (cause != null) {
+                // A predicate made sneaky can throw a checked exception, which goes on out the same way
+                throw Exceptions.sneakyThrow(cause);
+            }
+            return index == NONE ? -1 : index;
+        }
+    }
+
+    private void resolve(int i, Throwable t) {
+        synchronized (this) {
+            if (findFirst ? i >= index : index != NONE) {
+                return;
+            }
+            index = i;
+            cause = t;
+        }
+        if (findFirst) {
+            cancelFrom(i + 1);
+        }
+        else {
+            finished.countDown();
+        }
+    }
+
+    private void cancelFrom(int from) {
+        for (int i = from, n = submitted; i < n; i++) {
+            FutureTask<Void> task = tasks.get(i);
+            if (task != null) {
+                task.cancel(true);
+            }
+        }
+    }
+
+    private void done() {
+        if (pending.decrementAndGet() == 0) {
+            finished.countDown();
+        }
+    }
+
+    private final class Task extends FutureTask<Void> {
+        Task(int i, A a) {
+            super(() -> {
+                if (settled(i)) {
+                    return null;
+                }
+                try {
+                    if (p.test(a)) {
+                        resolve(i, null);
+                    }
+                }
+                catch (Throwable t) {
+                    resolve(i, t);
+                }
+                return null;
+            });
+        }
+
+        /**
+         * Called once whether the task ran or was cancelled, before or during its run.
+         */
+        @Override
+        protected void done() {
+            permits.release();
+            Search.this.done();
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.plexq.functional;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Time budgets for the timeout aware eMap, eFlatMap and eFind.  Immutable; each method returns a new spec:
+ * <pre>
+ *     TimeoutSpec.perElement(200, TimeUnit.MILLISECONDS).withDeadline(2, TimeUnit.SECONDS).skipTimeouts()
+ * </pre>
+ * The per element timeout bounds each call of the function; the deadline bounds the whole operation, measured from
+ * when it starts.  A call is always bounded by whichever runs out first.  By default an overrun fails the operation
+ * with an UncheckedExceptionalException caused by a java.util.concurrent.TimeoutException; with skipTimeouts, the
+ * element is left out of the result instead, as is every element not yet reached when the deadline passes.
+ */
+public final class TimeoutSpec {
+    private final long perElementNanos;
+    private final long deadlineNanos;
+    private final boolean skipTimeouts;
+
+    private TimeoutSpec(long perElementNanos, long deadlineNanos, boolean skipTimeouts) {
+        this.perElementNanos = perElementNanos;
+        this.deadlineNanos = deadlineNanos;
+        this.skipTimeouts = skipTimeouts;
+    }
+
+    public static TimeoutSpec perElement(long timeout, TimeUnit unit) {
+        return new TimeoutSpec(Long.MAX_VALUE, Long.MAX_VALUE, false).withPerElement(timeout, unit);
+    }
+
+    public static TimeoutSpec deadline(long timeout, TimeUnit unit) {
+        return new TimeoutSpec(Long.MAX_VALUE, Long.MAX_VALUE, false).withDeadline(timeout, unit);
+    }
+
+    public TimeoutSpec withPerElement(long timeout, TimeUnit unit) {
+        return new TimeoutSpec(positive(timeout, unit), deadlineNanos, skipTimeouts);
+    }
+
+    public TimeoutSpec withDeadline(long timeout, TimeUnit unit) {
+        return new TimeoutSpec(perElementNanos, positive(timeout, unit), skipTimeouts);
+    }
+
+    /**
+     * Leave elements whose call overruns out of the result, rather than failing.
+     */
+    public TimeoutSpec skipTimeouts() {
+        return new TimeoutSpec(perElementNanos, deadlineNanos, true);
+    }
+
+    private static long positive(long timeout, TimeUnit unit) {
+        if (timeout <= 0) {
+            throw new IllegalArgumentException("Timeout must be positive: " + timeout);
+        }
+        return unit.toNanos(timeout);
+    }
+
+    /**
+     * @return the per element timeout in nanoseconds, or Long.MAX_VALUE if there is none
+     */
+    public long getPerElementNanos() {
+        return perElementNanos;
+    }
+
+    /**
+     * @return the overall deadline in nanoseconds, or Long.MAX_VALUE if there is none
+     */
+    public long getDeadlineNanos() {
+        return deadlineNanos;
+    }
+
+    public boolean isSkipTimeouts() {
+        return skipTimeouts;
+    }
+}
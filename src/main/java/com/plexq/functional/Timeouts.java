@@ -0,0 +1,74 @@
+package com.plexq.functional;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Runs calls one at a time under a TimeoutSpec, behind the timeout aware eMap, eFlatMap and eFind.
+ *
+ * Each call runs on the executor while the calling thread waits for it, for no longer than the time left in its
+ * budget.  An overrunning call is cancelled with interruption and abandoned, so the caller moves on even when the
+ * call ignores the interrupt.  Exceptions from the function surface exactly as they would from eMap.
+ */
+final class Timeouts {
+    /**
+     * Returned by call in place of a result for an element skipped by a timeout.
+     */
+    static final Object SKIPPED = new Object();
+
+    private final TimeoutSpec spec;
+    private final Executor executor;
+    private final long start = System.nanoTime();
+
+    Timeouts(TimeoutSpec spec, Executor executor) {
+        this.spec = spec;
+        this.executor = executor;
+    }
+
+    /**
+     * @return f applied to a, or SKIPPED
+     */
+    <A, B> Object call(int index, A a, ExceptionalFunction<A, B> f) {
+        long elapsed = System.nanoTime() - start;
+        long remaining = spec.getDeadlineNanos() == Long.MAX_VALUE ? Long.MAX_VALUE
+                : spec.getDeadlineNanos() - elapsed;
+        long budget = Math.min(spec.getPerElementNanos(), remaining);
+        if (budget <= 0) {
+            return timedOut("Deadline of " + spec.getDeadlineNanos() + "ns passed before element " + index);
+        }
+
+        FutureTask<B> task = new FutureTask<>(() -> f.f(a));
+        executor.execute(task);
+        try {
+            return task.get(budget, TimeUnit.NANOSECONDS);
+        }
+        catch (TimeoutException e) {
+            task.cancel(true);
+            return timedOut(budget == remaining
+                    ? "Deadline of " + spec.getDeadlineNanos() + "ns passed during element " + index
+                    : "Element " + index + " timed out after " + budget + "ns");
+        }
+        catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw Exceptions.unchecked((Exception) cause);
+        }
+        catch (InterruptedException e) {
+            task.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new UncheckedExceptionalException(e);
+        }
+    }
+
+    private Object timedOut(String message) {
+        if (spec.isSkipTimeouts()) {
+            return SKIPPED;
+        }
+        throw Exceptions.unchecked(new TimeoutException(message));
+    }
+}
@@ -0,0 +1,176 @@
+package com.plexq.functional;
+
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * The outcome of a computation that may have thrown: either a Success holding its value, or a Failure holding the
+ * exception.  Errors are never captured, only Exceptions.
+ *
+ * @param <A> Parameterized type of the successful value
+ */
+public abstract class Try<A> {
+    private Try() {
+    }
+
+    public static <A> Try<A> success(A a) {
+        return new Success<A>(a);
+    }
+
+    public static <A> Try<A> failure(Exception e) {
+        return new Failure<A>(Objects.requireNonNull(e));
+    }
+
+    /**
+     * Run the supplier, capturing its result or the exception it threw.
+     */
+    public static <A> Try<A> of(ExceptionalSupplier<A> s) {
+        try {
+            return new Success<A>(s.apply());
+        }
+        catch (Exception e) {
+            return new Failure<A>(e);
+        }
+    }
+
+    public abstract boolean isSuccess();
+
+    public boolean isFailure() {
+        return !isSuccess();
+    }
+
+    /**
+     * The value of a Success.  A Failure rethrows its exception, wrapped as the Exceptional* interfaces would wrap it.
+     */
+    public abstract A get();
+
+    /**
+     * The exception of a Failure.
+     * @throws NoSuchElementException for a Success
+     */
+    public abstract Exception getException();
+
+    /**
+     * The value of a Success, or empty for a Failure or a null value.
+     */
+    public abstract Optional<A> toOptional();
+
+    public abstract <B> Try<B> map(ExceptionalFunction<A, B> f);
+
+    public static final class Success<A> extends Try<A> {
+        public final A value;
+
+        private Success(A value) {
+            this.value = value;
+        }
+
+        @Override
+        public boolean isSuccess() {
+            return true;
+        }
+
+        @Override
+        public A get() {
+            return value;
+        }
+
+        @Override
+        public Exception getException() {
+            throw new NoSuchElementException("Success has no exception");
+        }
+
+        @Override
+        public Optional<A> toOptional() {
+            return Optional.ofNullable(value);
+        }
+
+        @Override
+        public <B> Try<B> map(ExceptionalFunction<A, B> f) {
+            try {
+                return new Success<B>(f.f(value));
+            }
+            catch (Exception e) {
+                return new Failure<B>(e);
+            }
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            Success<?> success = (Success<?>) o;
+            return Objects.equals(value, success.value);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hashCode(value);
+        }
+
+        @Override
+        public String toString() {
+            return "Success(" + value + ")";
+        }
+    }
+
+    public static final class Failure<A> extends Try<A> {
+        public final Exception exception;
+
+        private Failure(Exception exception) {
+            this.exception = exception;
+        }
+
+        @Override
+        public boolean isSuccess() {
+            return false;
+        }
+
+        @Override
+        public A get() {
+            throw Exceptions.unchecked(exception);
+        }
+
+        @Override
+        public Exception getException() {
+            return exception;
+        }
+
+        @Override
+        public Optional<A> toOptional() {
+            return Optional.empty();
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <B> Try<B> map(ExceptionalFunction<A, B> f) {
+            return (Try<B>) this;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            Failure<?> failure = (Failure<?>) o;
+            return exception.equals(failure.exception);
+        }
+
+        @Override
+        public int hashCode() {
+            return exception.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return "Failure(" + exception + ")";
+        }
+    }
+}
@@ -1,7 +1,18 @@
 package com.plexq.functional;
 
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.stream.Collector;
 
+/**
+ * Tuples of two to eight values.  hashCode is written out by hand rather than going through Objects.hash, which
+ * allocates a varargs array on every call; the values are the same as Objects.hash would give.  Hashes are not cached,
+ * since the components may themselves be mutable.
+ */
 public final class Tuple {
     public static final class Tuple2<A, B> {
         public final A _1;
@@ -26,8 +37,10 @@ public final class Tuple {
 
         @Override
         public int hashCode() {
-
-            return Objects.hash(_1, _2);
+            int h = 1;
+            h = 31 * h + Objects.hashCode(_1);
+            h = 31 * h + Objects.hashCode(_2);
+            return h;
         }
     }
 
@@ -56,8 +69,258 @@ public final class Tuple {
 
         @Override
         public int hashCode() {
+            int h = 1;
+            h = 31 * h + Objects.hashCode(_1);
+            h = 31 * h + Objects.hashCode(_2);
+            h = 31 * h + Objects.hashCode(_3);
+            return h;
+        }
+    }
+
+    public static final class Tuple4<A, B, C, D> {
+        public final A _1;
+        public final B _2;
+        public final C _3;
+        public final D _4;
+
+        public Tuple4(A a, B b, C c, D d) {
+            this._1 = a;
+            this._2 = b;
+            this._3 = c;
+            this._4 = d;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            Tuple4<?, ?, ?, ?> tuple4 = (Tuple4<?, ?, ?, ?>) o;
+            return Objects.equals(_1, tuple4._1) && Objects.equals(_2, tuple4._2) && Objects.equals(_3, tuple4._3) &&
+                    Objects.equals(_4, tuple4._4);
+        }
+
+        @Override
+        public int hashCode() {
+            int h = 1;
+            h = 31 * h + Objects.hashCode(_1);
+            h = 31 * h + Objects.hashCode(_2);
+            h = 31 * h + Objects.hashCode(_3);
+            h = 31 * h + Objects.hashCode(_4);
+            return h;
+        }
+    }
+
+    public static final class Tuple5<A, B, C, D, E> {
+        public final A _1;
+        public final B _2;
+        public final C _3;
+        public final D _4;
+        public final E _5;
+
+        public Tuple5(A a, B b, C c, D d, E e) {
+            this._1 = a;
+            this._2 = b;
+            this._3 = c;
+            this._4 = d;
+            this._5 = e;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            Tuple5<?, ?, ?, ?, ?> tuple5 = (Tuple5<?, ?, ?, ?, ?>) o;
+            return Objects.equals(_1, tuple5._1) && Objects.equals(_2, tuple5._2) && Objects.equals(_3, tuple5._3) &&
+                    Objects.equals(_4, tuple5._4) && Objects.equals(_5, tuple5._5);
+        }
 
-            return Objects.hash(_1, _2, _3);
+        @Override
+        public int hashCode() {
+            int h = 1;
+            h = 31 * h + Objects.hashCode(_1);
+            h = 31 * h + Objects.hashCode(_2);
+            h = 31 * h + Objects.hashCode(_3);
+            h = 31 * h + Objects.hashCode(_4);
+            h = 31 * h + Objects.hashCode(_5);
+            return h;
+        }
+    }
+
+    public static final class Tuple6<A, B, C, D, E, F> {
+        public final A _1;
+        public final B _2;
+        public final C _3;
+        public final D _4;
+        public final E _5;
+        public final F _6;
+
+        public Tuple6(A a, B b, C c, D d, E e, F f) {
+            this._1 = a;
+            this._2 = b;
+            this._3 = c;
+            this._4 = d;
+            this._5 = e;
+            this._6 = f;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            Tuple6<?, ?, ?, ?, ?, ?> tuple6 = (Tuple6<?, ?, ?, ?, ?, ?>) o;
+            return Objects.equals(_1, tuple6._1) && Objects.equals(_2, tuple6._2) && Objects.equals(_3, tuple6._3) &&
+                    Objects.equals(_4, tuple6._4) && Objects.equals(_5, tuple6._5) && Objects.equals(_6, tuple6._6);
+        }
+
+        @Override
+        public int hashCode() {
+            int h = 1;
+            h = 31 * h + Objects.hashCode(_1);
+            h = 31 * h + Objects.hashCode(_2);
+            h = 31 * h + Objects.hashCode(_3);
+            h = 31 * h + Objects.hashCode(_4);
+            h = 31 * h + Objects.hashCode(_5);
+            h = 31 * h + Objects.hashCode(_6);
+            return h;
+        }
+    }
+
+    public static final class Tuple7<A, B, C, D, E, F, G> {
+        public final A _1;
+        public final B _2;
+        public final C _3;
+        public final D _4;
+        public final E _5;
+        public final F _6;
+        public final G _7;
+
+        public Tuple7(A a, B b, C c, D d, E e, F f, G g) {
+            this._1 = a;
+            this._2 = b;
+            this._3 = c;
+            this._4 = d;
+            this._5 = e;
+            this._6 = f;
+            this._7 = g;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            Tuple7<?, ?, ?, ?, ?, ?, ?> tuple7 = (Tuple7<?, ?, ?, ?, ?, ?, ?>) o;
+            return Objects.equals(_1, tuple7._1) && Objects.equals(_2, tuple7._2) && Objects.equals(_3, tuple7._3) &&
+                    Objects.equals(_4, tuple7._4) && Objects.equals(_5, tuple7._5) && Objects.equals(_6, tuple7._6) &&
+                    Objects.equals(_7, tuple7._7);
+        }
+
+        @Override
+        public int hashCode() {
+            int h = 1;
+            h = 31 * h + Objects.hashCode(_1);
+            h = 31 * h + Objects.hashCode(_2);
+            h = 31 * h + Objects.hashCode(_3);
+            h = 31 * h + Objects.hashCode(_4);
+            h = 31 * h + Objects.hashCode(_5);
+            h = 31 * h + Objects.hashCode(_6);
+            h = 31 * h + Objects.hashCode(_7);
+            return h;
+        }
+    }
+
+    public static final class Tuple8<A, B, C, D, E, F, G, H> {
+        public final A _1;
+        public final B _2;
+        public final C _3;
+        public final D _4;
+        public final E _5;
+        public final F _6;
+        public final G _7;
+        public final H _8;
+
+        public Tuple8(A a, B b, C c, D d, E e, F f, G g, H h) {
+            this._1 = a;
+            this._2 = b;
+            this._3 = c;
+            this._4 = d;
+            this._5 = e;
+            this._6 = f;
+            this._7 = g;
+            this._8 = h;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            Tuple8<?, ?, ?, ?, ?, ?, ?, ?> tuple8 = (Tuple8<?, ?, ?, ?, ?, ?, ?, ?>) o;
+            return Objects.equals(_1, tuple8._1) && Objects.equals(_2, tuple8._2) && Objects.equals(_3, tuple8._3) &&
+                    Objects.equals(_4, tuple8._4) && Objects.equals(_5, tuple8._5) && Objects.equals(_6, tuple8._6) &&
+                    Objects.equals(_7, tuple8._7) && Objects.equals(_8, tuple8._8);
+        }
+
+        @Override
+        public int hashCode() {
+            int h = 1;
+            h = 31 * h + Objects.hashCode(_1);
+            h = 31 * h + Objects.hashCode(_2);
+            h = 31 * h + Objects.hashCode(_3);
+            h = 31 * h + Objects.hashCode(_4);
+            h = 31 * h + Objects.hashCode(_5);
+            h = 31 * h + Objects.hashCode(_6);
+            h = 31 * h + Objects.hashCode(_7);
+            h = 31 * h + Objects.hashCode(_8);
+            return h;
+        }
+    }
+
+    /**
+     * A pair of a primitive int and an object, for carrying an index with an element without boxing the index.
+     */
+    public static final class IntObjTuple<A> {
+        public final int _1;
+        public final A _2;
+
+        public IntObjTuple(int i, A a) {
+            this._1 = i;
+            this._2 = a;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            IntObjTuple<?> intObjTuple = (IntObjTuple<?>) o;
+            return _1 == intObjTuple._1 && Objects.equals(_2, intObjTuple._2);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * _1 + Objects.hashCode(_2);
         }
     }
 
@@ -66,6 +329,276 @@ public final class Tuple {
     }
 
     public static <A, B, C> Tuple3<A, B, C> tuple(A a, B b, C c) {
-        return new Tuple.Tuple3<A , B, C>(a, b, c);
+        return new Tuple.Tuple3<A, B, C>(a, b, c);
+    }
+
+    public static <A, B, C, D> Tuple4<A, B, C, D> tuple(A a, B b, C c, D d) {
+        return new Tuple.Tuple4<A, B, C, D>(a, b, c, d);
+    }
+
+    public static <A, B, C, D, E> Tuple5<A, B, C, D, E> tuple(A a, B b, C c, D d, E e) {
+        return new Tuple.Tuple5<A, B, C, D, E>(a, b, c, d, e);
+    }
+
+    public static <A, B, C, D, E, F> Tuple6<A, B, C, D, E, F> tuple(A a, B b, C c, D d, E e, F f) {
+        return new Tuple.Tuple6<A, B, C, D, E, F>(a, b, c, d, e, f);
+    }
+
+    public static <A, B, C, D, E, F, G> Tuple7<A, B, C, D, E, F, G> tuple(A a, B b, C c, D d, E e, F f, G g) {
+        return new Tuple.Tuple7<A, B, C, D, E, F, G>(a, b, c, d, e, f, g);
+    }
+
+    public static <A, B, C, D, E, F, G, H> Tuple8<A, B, C, D, E, F, G, H> tuple(A a, B b, C c, D d, E e, F f, G g,
+            H h) {
+        return new Tuple.Tuple8<A, B, C, D, E, F, G, H>(a, b, c, d, e, f, g, h);
+    }
+
+    public static <A> IntObjTuple<A> intTuple(int i, A a) {
+        return new Tuple.IntObjTuple<A>(i, a);
+    }
+
+    //
+    // Lexicographic comparators: compare by _1, then by _2 for ties, and so on.  Use Comparator.naturalOrder() for
+    // Comparable components.
+    //
+
+    public static <A, B> Comparator<Tuple2<A, B>> comparator(Comparator<? super A> a, Comparator<? super B> b) {
+        return (x, y) -> {
+            int c1 = a.compare(x._1, y._1);
+            if (c1 != 0) {
+                return c1;
+            }
+            return b.compare(x._2, y._2);
+        };
+    }
+
+    public static <A, B, C> Comparator<Tuple3<A, B, C>> comparator(
+            Comparator<? super A> a, Comparator<? super B> b, Comparator<? super C> c) {
+        return (x, y) -> {
+            int c1 = a.compare(x._1, y._1);
+            if (c1 != 0) {
+                return c1;
+            }
+            int c2 = b.compare(x._2, y._2);
+            if (c2 != 0) {
+                return c2;
+            }
+            return c.compare(x._3, y._3);
+        };
+    }
+
+    public static <A, B, C, D> Comparator<Tuple4<A, B, C, D>> comparator(
+            Comparator<? super A> a, Comparator<? super B> b, Comparator<? super C> c, Comparator<? super D> d) {
+        return (x, y) -> {
+            int c1 = a.compare(x._1, y._1);
+            if (c1 != 0) {
+                return c1;
+            }
+            int c2 = b.compare(x._2, y._2);
+            if (c2 != 0) {
+                return c2;
+            }
+            int c3 = c.compare(x._3, y._3);
+            if (c3 != 0) {
+                return c3;
+            }
+            return d.compare(x._4, y._4);
+        };
+    }
+
+    public static <A, B, C, D, E> Comparator<Tuple5<A, B, C, D, E>> comparator(
+            Comparator<? super A> a, Comparator<? super B> b, Comparator<? super C> c, Comparator<? super D> d,
+            Comparator<? super E> e) {
+        return (x, y) -> {
+            int c1 = a.compare(x._1, y._1);
+            if (c1 != 0) {
+                return c1;
+            }
+            int c2 = b.compare(x._2, y._2);
+            if (c2 != 0) {
+                return c2;
+            }
+            int c3 = c.compare(x._3, y._3);
+            if (c3 != 0) {
+                return c3;
+            }
+            int c4 = d.compare(x._4, y._4);
+            if (c4 != 0) {
+                return c4;
+            }
+            return e.compare(x._5, y._5);
+        };
+    }
+
+    public static <A, B, C, D, E, F> Comparator<Tuple6<A, B, C, D, E, F>> comparator(
+            Comparator<? super A> a, Comparator<? super B> b, Comparator<? super C> c, Comparator<? super D> d,
+            Comparator<? super E> e, Comparator<? super F> f) {
+        return (x, y) -> {
+            int c1 = a.compare(x._1, y._1);
+            if (c1 != 0) {
+                return c1;
+            }
+            int c2 = b.compare(x._2, y._2);
+            if (c2 != 0) {
+                return c2;
+            }
+            int c3 = c.compare(x._3, y._3);
+            if (c3 != 0) {
+                return c3;
+            }
+            int c4 = d.compare(x._4, y._4);
+            if (c4 != 0) {
+                return c4;
+            }
+            int c5 = e.compare(x._5, y._5);
+            if (c5 != 0) {
+                return c5;
+            }
+            return f.compare(x._6, y._6);
+        };
+    }
+
+    public static <A, B, C, D, E, F, G> Comparator<Tuple7<A, B, C, D, E, F, G>> comparator(
+            Comparator<? super A> a, Comparator<? super B> b, Comparator<? super C> c, Comparator<? super D> d,
+            Comparator<? super E> e, Comparator<? super F> f, Comparator<? super G> g) {
+        return (x, y) -> {
+            int c1 = a.compare(x._1, y._1);
+            if (c1 != 0) {
+                return c1;
+            }
+            int c2 = b.compare(x._2, y._2);
+            if (c2 != 0) {
+                return c2;
+            }
+            int c3 = c.compare(x._3, y._3);
+            if (c3 != 0) {
+                return c3;
+            }
+            int c4 = d.compare(x._4, y._4);
+            if (c4 != 0) {
+                return c4;
+            }
+            int c5 = e.compare(x._5, y._5);
+            if (c5 != 0) {
+                return c5;
+            }
+            int c6 = f.compare(x._6, y._6);
+            if (c6 != 0) {
+                return c6;
+            }
+            return g.compare(x._7, y._7);
+        };
+    }
+
+    public static <A, B, C, D, E, F, G, H> Comparator<Tuple8<A, B, C, D, E, F, G, H>> comparator(
+            Comparator<? super A> a, Comparator<? super B> b, Comparator<? super C> c, Comparator<? super D> d,
+            Comparator<? super E> e, Comparator<? super F> f, Comparator<? super G> g, Comparator<? super H> h) {
+        return (x, y) -> {
+            int c1 = a.compare(x._1, y._1);
+            if (c1 != 0) {
+                return c1;
+            }
+            int c2 = b.compare(x._2, y._2);
+            if (c2 != 0) {
+                return c2;
+            }
+            int c3 = c.compare(x._3, y._3);
+            if (c3 != 0) {
+                return c3;
+            }
+            int c4 = d.compare(x._4, y._4);
+            if (c4 != 0) {
+                return c4;
+            }
+            int c5 = e.compare(x._5, y._5);
+            if (c5 != 0) {
+                return c5;
+            }
+            int c6 = f.compare(x._6, y._6);
+            if (c6 != 0) {
+                return c6;
+            }
+            int c7 = g.compare(x._7, y._7);
+            if (c7 != 0) {
+                return c7;
+            }
+            return h.compare(x._8, y._8);
+        };
+    }
+
+    //
+    // Collectors over streams of tuples.  Each builds its result directly as tuples arrive, in a single pass.
+    //
+
+    /**
+     * Split a stream of pairs into a list of first components and a list of second components, both in encounter order.
+     */
+    public static <A, B> Collector<Tuple2<A, B>, ?, Tuple2<List<A>, List<B>>> unzip() {
+        return Collector.of(
+                () -> tuple(new ArrayList<A>(), new ArrayList<B>()),
+                (r, t) -> {
+                    r._1.add(t._1);
+                    r._2.add(t._2);
+                },
+                (x, y) -> {
+                    x._1.addAll(y._1);
+                    x._2.addAll(y._2);
+                    return x;
+                },
+                r -> tuple(r._1, r._2));
+    }
+
+    public static <A, B, C> Collector<Tuple3<A, B, C>, ?, Tuple3<List<A>, List<B>, List<C>>> unzip3() {
+        return Collector.of(
+                () -> tuple(new ArrayList<A>(), new ArrayList<B>(), new ArrayList<C>()),
+                (r, t) -> {
+                    r._1.add(t._1);
+                    r._2.add(t._2);
+                    r._3.add(t._3);
+                },
+                (x, y) -> {
+                    x._1.addAll(y._1);
+                    x._2.addAll(y._2);
+                    x._3.addAll(y._3);
+                    return x;
+                },
+                r -> tuple(r._1, r._2, r._3));
+    }
+
+    /**
+     * Collect pairs into a HashMap from _1 to _2.  As with Collectors.toMap, a repeated key is an
+     * IllegalStateException.
+     */
+    public static <A, B> Collector<Tuple2<A, B>, ?, Map<A, B>> toMap() {
+        return Collector.of(
+                HashMap::new,
+                Tuple::putUnique,
+                (x, y) -> {
+                    y.forEach((k, v) -> putUnique(x, tuple(k, v)));
+                    return x;
+                });
+    }
+
+    /**
+     * Collect pairs into a HashMap from each distinct _1 to the list of _2 values paired with it, in encounter order.
+     */
+    public static <A, B> Collector<Tuple2<A, B>, ?, Map<A, List<B>>> groupingBy() {
+        return Collector.of(
+                HashMap::new,
+                (Map<A, List<B>> r, Tuple2<A, B> t) -> r.computeIfAbsent(t._1, k -> new ArrayList<>()).add(t._2),
+                (x, y) -> {
+                    y.forEach((k, v) -> x.merge(k, v, (l, r) -> {
+                        l.addAll(r);
+                        return l;
+                    }));
+                    return x;
+                });
+    }
+
+    private static <A, B> void putUnique(Map<A, B> m, Tuple2<A, B> t) {
+        if (m.containsKey(t._1)) {
+            throw new IllegalStateException("Duplicate key " + t._1);
+        }
+        m.put(t._1, t._2);
     }
 }
@@ -0,0 +1,153 @@
+package com.plexq.functional;
+
+import java.util.AbstractList;
+import java.util.RandomAccess;
+
+import com.plexq.functional.Tuple.Tuple2;
+
+/**
+ * A List of Tuple2s stored column by column, struct of arrays style: each component lives in its own Column, so a
+ * row costs one slot per column rather than a Tuple2 plus, for primitive columns, a boxed value.
+ *
+ * get creates a Tuple2 on each call.  To read rows without allocating, use a Cursor, which steps over the rows and
+ * reads the columns in place, unboxed for primitive columns.
+ *
+ * The list can be appended to and its rows replaced, but not removed from.  It is not thread safe.
+ *
+ * @param <A> Parameterized type of the first component
+ * @param <B> Parameterized type of the second component
+ */
+public final class TupleList2<A, B> extends AbstractList<Tuple2<A, B>> implements RandomAccess {
+    private final Column<A> c1;
+    private final Column<B> c2;
+
+    /**
+     * A list over the given columns, which must be the same size and which the list owns from then on.
+     */
+    public TupleList2(Column<A> c1, Column<B> c2) {
+        if (c1.size() != c2.size()) {
+            throw new IllegalArgumentException("Columns differ in size: " + c1.size() + ", " + c2.size());
+        }
+        this.c1 = c1;
+        this.c2 = c2;
+    }
+
+    public TupleList2() {
+        this(Column.objects(), Column.objects());
+    }
+
+    public static <A, B> TupleList2<A, B> from(Iterable<? extends Tuple2<? extends A, ? extends B>> v, Column<A> c1,
+            Column<B> c2) {
+        TupleList2<A, B> r = new TupleList2<>(c1, c2);
+        for (Tuple2<? extends A, ? extends B> t : v) {
+            r.add(t._1, t._2);
+        }
+        return r;
+    }
+
+    @Override
+    public int size() {
+        return c1.size();
+    }
+
+    @Override
+    public Tuple2<A, B> get(int i) {
+        return new Tuple2<>(c1.get(i), c2.get(i));
+    }
+
+    @Override
+    public Tuple2<A, B> set(int i, Tuple2<A, B> t) {
+        c1.checkIndex(i);
+        c1.check(t._1);
+        c2.check(t._2);
+        return new Tuple2<>(c1.replace(i, t._1), c2.replace(i, t._2));
+    }
+
+    @Override
+    public boolean add(Tuple2<A, B> t) {
+        return add(t._1, t._2);
+    }
+
+    public boolean add(A a, B b) {
+        c1.check(a);
+        c2.check(b);
+        c1.append(a);
+        c2.append(b);
+        modCount++;
+        return true;
+    }
+
+    public Column<A> column1() {
+        return c1;
+    }
+
+    public Column<B> column2() {
+        return c2;
+    }
+
+    public Cursor<A, B> cursor() {
+        return new Cursor<>(this);
+    }
+
+    /**
+     * A flyweight over the rows of a TupleList2.  It starts before the first row, and each call to next
+     * moves it on one row.
+     * <pre>
+     *     TupleList2.Cursor&lt;Integer, String&gt; c = list.cursor();
+     *     while (c.next()) {
+     *         total += c.int1() * c._2().length();
+     *     }
+     * </pre>
+     */
+    public static final class Cursor<A, B> {
+        private final TupleList2<A, B> list;
+        private int i = -1;
+
+        private Cursor(TupleList2<A, B> list) {
+            this.list = list;
+        }
+
+        public boolean next() {
+            if (i < list.size()) {
+                i++;
+            }
+            return i < list.size();
+        }
+
+        public int index() {
+            return i;
+        }
+
+        public A _1() {
+            return list.c1.get(i);
+        }
+
+        public B _2() {
+            return list.c2.get(i);
+        }
+
+        public int int1() {
+            return list.c1.getInt(i);
+        }
+
+        public long long1() {
+            return list.c1.getLong(i);
+        }
+
+        public double double1() {
+            return list.c1.getDouble(i);
+        }
+
+        public int int2() {
+            return list.c2.getInt(i);
+        }
+
+        public long long2() {
+            return list.c2.getLong(i);
+        }
+
+        public double double2() {
+            return list.c2.getDouble(i);
+        }
+    }
+}
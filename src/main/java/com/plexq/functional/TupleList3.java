@@ -0,0 +1,181 @@
+package com.plexq.functional;
+
+import java.util.AbstractList;
+import java.util.RandomAccess;
+
+import com.plexq.functional.Tuple.Tuple3;
+
+/**
+ * A List of Tuple3s stored column by column, struct of arrays style: each component lives in its own Column, so a
+ * row costs one slot per column rather than a Tuple3 plus, for primitive columns, a boxed value.
+ *
+ * get creates a Tuple3 on each call.  To read rows without allocating, use a Cursor, which steps over the rows and
+ * reads the columns in place, unboxed for primitive columns.
+ *
+ * The list can be appended to and its rows replaced, but not removed from.  It is not thread safe.
+ *
+ * @param <A> Parameterized type of the first component
+ * @param <B> Parameterized type of the second component
+ * @param <C> Parameterized type of the third component
+ */
+public final class TupleList3<A, B, C> extends AbstractList<Tuple3<A, B, C>> implements RandomAccess {
+    private final Column<A> c1;
+    private final Column<B> c2;
+    private final Column<C> c3;
+
+    /**
+     * A list over the given columns, which must be the same size and which the list owns from then on.
+     */
+    public TupleList3(Column<A> c1, Column<B> c2, Column<C> c3) {
+        if (c1.size() != c2.size() || c1.size() != c3.size()) {
+            throw new IllegalArgumentException(
+                    "Columns differ in size: " + c1.size() + ", " + c2.size() + ", " + c3.size());
+        }
+        this.c1 = c1;
+        this.c2 = c2;
+        this.c3 = c3;
+    }
+
+    public TupleList3() {
+        this(Column.objects(), Column.objects(), Column.objects());
+    }
+
+    public static <A, B, C> TupleList3<A, B, C> from(
+            Iterable<? extends Tuple3<? extends A, ? extends B, ? extends C>> v, Column<A> c1, Column<B> c2,
+            Column<C> c3) {
+        TupleList3<A, B, C> r = new TupleList3<>(c1, c2, c3);
+        for (Tuple3<? extends A, ? extends B, ? extends C> t : v) {
+            r.add(t._1, t._2, t._3);
+        }
+        return r;
+    }
+
+    @Override
+    public int size() {
+        return c1.size();
+    }
+
+    @Override
+    public Tuple3<A, B, C> get(int i) {
+        return new Tuple3<>(c1.get(i), c2.get(i), c3.get(i));
+    }
+
+    @Override
+    public Tuple3<A, B, C> set(int i, Tuple3<A, B, C> t) {
+        c1.checkIndex(i);
+        c1.check(t._1);
+        c2.check(t._2);
+        c3.check(t._3);
+        return new Tuple3<>(c1.replace(i, t._1), c2.replace(i, t._2), c3.replace(i, t._3));
+    }
+
+    @Override
+    public boolean add(Tuple3<A, B, C> t) {
+        return add(t._1, t._2, t._3);
+    }
+
+    public boolean add(A a, B b, C c) {
+        c1.check(a);
+        c2.check(b);
+        c3.check(c);
+        c1.append(a);
+        c2.append(b);
+        c3.append(c);
+        modCount++;
+        return true;
+    }
+
+    public Column<A> column1() {
+        return c1;
+    }
+
+    public Column<B> column2() {
+        return c2;
+    }
+
+    public Column<C> column3() {
+        return c3;
+    }
+
+    public Cursor<A, B, C> cursor() {
+        return new Cursor<>(this);
+    }
+
+    /**
+     * A flyweight over the rows of a TupleList3.  It starts before the first row, and each call to next
+     * moves it on one row.
+     * <pre>
+     *     TupleList3.Cursor&lt;Integer, String, Double&gt; c = list.cursor();
+     *     while (c.next()) {
+     *         total += c.int1() * c._2().length() * c.double3();
+     *     }
+     * </pre>
+     */
+    public static final class Cursor<A, B, C> {
+        private final TupleList3<A, B, C> list;
+        private int i = -1;
+
+        private Cursor(TupleList3<A, B, C> list) {
+            this.list = list;
+        }
+
+        public boolean next() {
+            if (i < list.size()) {
+                i++;
+            }
+            return i < list.size();
+        }
+
+        public int index() {
+            return i;
+        }
+
+        public A _1() {
+            return list.c1.get(i);
+        }
+
+        public B _2() {
+            return list.c2.get(i);
+        }
+
+        public C _3() {
+            return list.c3.get(i);
+        }
+
+        public int int1() {
+            return list.c1.getInt(i);
+        }
+
+        public long long1() {
+            return list.c1.getLong(i);
+        }
+
+        public double double1() {
+            return list.c1.getDouble(i);
+        }
+
+        public int int2() {
+            return list.c2.getInt(i);
+        }
+
+        public long long2() {
+            return list.c2.getLong(i);
+        }
+
+        public double double2() {
+            return list.c2.getDouble(i);
+        }
+
+        public int int3() {
+            return list.c3.getInt(i);
+        }
+
+        public long long3() {
+            return list.c3.getLong(i);
+        }
+
+        public double double3() {
+            return list.c3.getDouble(i);
+        }
+    }
+}
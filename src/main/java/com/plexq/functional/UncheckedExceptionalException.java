@@ -0,0 +1,14 @@
+package com.plexq.functional;
+
+/**
+ * Carries a checked exception thrown inside one of the Exceptional* interfaces out through a standard functional
+ * interface.  The original exception is the cause, and already holds the stack trace that matters, so this wrapper
+ * does not capture a second one; that keeps wrapping cheap when failures are frequent.
+ */
+public class UncheckedExceptionalException extends RuntimeException {
+    private static final long serialVersionUID = 1L;
+
+    public UncheckedExceptionalException(Throwable cause) {
+        super(cause == null ? null : cause.toString(), cause, true, false);
+    }
+}
@@ -0,0 +1,141 @@
+package com.plexq.functional;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.RandomAccess;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * A lazy, fused pipeline over a List.  Unlike chaining Functional.map and Functional.filter, building a View does no
+ * work at all; stages are only composed into a single push-through chain when a terminal operation (toList, find,
+ * forEach) runs, so the source is traversed once and only the final result is materialized.
+ *
+ * A View is immutable and may be run any number of times; each terminal operation traverses the source afresh.
+ *
+ * @param <A> Parameterized type of the elements emitted by the last stage
+ */
+public final class View<A> {
+    /**
+     * Receives one element from upstream; returns false once it wants no more elements.
+     */
+    private interface Sink<A> {
+        boolean accept(A a);
+    }
+
+    private final List<?> source;
+    private final Function<Sink<? super A>, Sink<Object>> wrap;
+
+    private View(List<?> source, Function<Sink<? super A>, Sink<Object>> wrap) {
+        this.source = source;
+        this.wrap = wrap;
+    }
+
+    @SuppressWarnings("unchecked")
+    static <A> View<A> of(List<A> source) {
+        return new View<A>(source, down -> (Sink<Object>) down);
+    }
+
+    public <B> View<B> map(Function<A, B> f) {
+        return new View<B>(source, down -> wrap.apply(a -> down.accept(f.apply(a))));
+    }
+
+    public View<A> filter(Predicate<A> p) {
+        return new View<A>(source, down -> wrap.apply(a -> !p.test(a) || down.accept(a)));
+    }
+
+    public <B> View<B> flatMapOptional(Function<A, Optional<B>> f) {
+        return new View<B>(source, down -> wrap.apply(a -> {
+            Optional<B> b = f.apply(a);
+            return !b.isPresent() || down.accept(b.get());
+        }));
+    }
+
+    public <B> View<B> eMap(ExceptionalFunction<A, B> f) {
+        return map(f);
+    }
+
+    // Cast an ExceptionalPredicate down to a regular predicate
+    public View<A> eFilter(ExceptionalPredicate<A> p) {
+        return filter(p);
+    }
+
+    /**
+     * Truncate the pipeline to at most n elements.  Once n elements have passed, traversal of the source stops, so
+     * upstream functions are not applied to the remainder.
+     */
+    public View<A> take(int n) {
+        if (n <= 0) {
+            return new View<A>(Collections.emptyList(), wrap);
+        }
+        return new View<A>(source, down -> wrap.apply(new Sink<A>() {
+            private int remaining = n;
+
+            @Override
+            public boolean accept(A a) {
+                remaining--;
+                return down.accept(a) && remaining > 0;
+            }
+        }));
+    }
+
+    public List<A> toList() {
+        List<A> r = new ArrayList<>();
+        run(a -> {
+            r.add(a);
+            return true;
+        });
+        return r;
+    }
+
+    public void forEach(Consumer<A> f) {
+        run(a -> {
+            f.accept(a);
+            return true;
+        });
+    }
+
+    /**
+     * Find the first element emitted by the pipeline which satisfies the predicate, stopping traversal there.
+     */
+    public Optional<A> find(Predicate<A> p) {
+        List<A> found = new ArrayList<>(1);
+        run(a -> {
+            if (p.test(a)) {
+                found.add(a);
+                return false;
+            }
+            return true;
+        });
+        return found.isEmpty() ? Optional.empty() : Optional.of(found.get(0));
+    }
+
+    // Cast an ExceptionalPredicate down to a regular predicate
+    public Optional<A> eFind(ExceptionalPredicate<A> p) {
+        return find(p);
+    }
+
+    private void run(Sink<? super A> terminal) {
+        Sink<Object> head = wrap.apply(terminal);
+        if (source instanceof RandomAccess) {
+            int size = source.size();
+            for (int i = 0; i < size; i++) {
+                if (!head.accept(source.get(i))) {
+                    return;
+                }
+            }
+        }
+        else {
+            Iterator<?> it = source.iterator();
+            while (it.hasNext()) {
+                if (!head.accept(it.next())) {
+                    return;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,233 @@
+package com.plexq.functional;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+
+/**
+ * Windowing behind grouped, sliding and chunked.
+ *
+ * Windows start every step elements from the first, each holding up to size elements.  They stop once a window has
+ * reached the end of the input, so the last window may be shorter, and an input shorter than size gives a single
+ * window of everything.  When step is larger than size, the elements between windows are skipped.
+ */
+final class Windows {
+    private Windows() {
+    }
+
+    static void check(int size, int step) {
+        if (size < 1) {
+            throw new IllegalArgumentException("Window size must be at least 1: " + size);
+        }
+        if (step < 1) {
+            throw new IllegalArgumentException("Window step must be at least 1: " + step);
+        }
+    }
+
+    /**
+     * The windows of v as subList views.  A list that isn't RandomAccess is copied once into an ArrayList first, since
+     * its subLists would have to walk from the start on each access.
+     */
+    static <A> List<List<A>> sliding(List<A> v, int size, int step) {
+        check(size, step);
+        return new WindowList<>(v instanceof RandomAccess ? v : new ArrayList<>(v), size, step);
+    }
+
+    static int count(int n, int size, int step) {
+        if (n == 0) {
+            return 0;
+        }
+        int afterFirst = n > size ? (n - size - 1) / step + 1 : 0;
+        return 1 + Math.min((n - 1) / step, afterFirst);
+    }
+
+    private static final class WindowList<A> extends AbstractList<List<A>> implements RandomAccess {
+        private final List<A> v;
+        private final int size;
+        private final int step;
+
+        WindowList(List<A> v, int size, int step) {
+            this.v = v;
+            this.size = size;
+            this.step = step;
+        }
+
+        @Override
+        public List<A> get(int i) {
+            int n = v.size();
+            Platform.checkIndex(i, count(n, size, step));
+            int start = i * step;
+            return v.subList(start, Math.min(n, start + size));
+        }
+
+        @Override
+        public int size() {
+            return count(v.size(), size, step);
+        }
+
+        @Override
+        public Spliterator<List<A>> spliterator() {
+            return new IndexSpliterator<>(this, 0, size());
+        }
+    }
+
+    /**
+     * Splits in halves by index, which Java 8's default List spliterator does not do.
+     */
+    private static final class IndexSpliterator<A> implements Spliterator<A> {
+        private final List<A> list;
+        private int from;
+        private final int to;
+
+        IndexSpliterator(List<A> list, int from, int to) {
+            this.list = list;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super A> action) {
+            if (from >= to) {
+                return false;
+            }
+            action.accept(list.get(from++));
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super A> action) {
+            for (; from < to; from++) {
+                action.accept(list.get(from));
+            }
+        }
+
+        @Override
+        public Spliterator<A> trySplit() {
+            int mid = (from + to) >>> 1;
+            if (mid <= from) {
+                return null;
+            }
+            Spliterator<A> prefix = new IndexSpliterator<>(list, from, mid);
+            from = mid;
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize() {
+            return to - from;
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED | SIZED | SUBSIZED | NONNULL;
+        }
+    }
+
+    /**
+     * The windows of source, read through a ring buffer of size elements so each element is pulled once and never
+     * shifted.  Each window handed out is a fresh fixed-size list copied from the ring, since a stream's consumers may
+     * hold on to them.  Splitting pulls a growing batch of windows into an array, as Spliterators does for iterators,
+     * so parallel streams get work in order.
+     */
+    static <A> Spliterator<List<A>> sliding(Spliterator<A> source, int size, int step) {
+        check(size, step);
+        return new RingSpliterator<>(source, size, step);
+    }
+
+    private static final class RingSpliterator<A> implements Spliterator<List<A>> {
+        private static final int BATCH_UNIT = 1 << 10;
+        private static final int MAX_BATCH = 1 << 20;
+
+        private final Spliterator<A> source;
+        private final int size;
+        private final int step;
+        private final Object[] ring;
+        // Index in ring of the oldest buffered element, and how many are buffered
+        private int head;
+        private int buffered;
+        // Elements buffered since the last window was emitted, and elements still to skip when step > size
+        private int fresh;
+        private int skip;
+        private boolean exhausted;
+        private int batch;
+
+        RingSpliterator(Spliterator<A> source, int size, int step) {
+            this.source = source;
+            this.size = size;
+            this.step = step;
+            this.ring = new Object[size];
+        }
+
+        private void push(A a) {
+            if (skip > 0) {
+                skip--;
+                return;
+            }
+            ring[(head + buffered) % size] = a;
+            buffered++;
+            fresh++;
+        }
+
+        @SuppressWarnings("unchecked")
+        private List<A> emit() {
+            Object[] window = new Object[buffered];
+            int firstPart = Math.min(buffered, size - head);
+            System.arraycopy(ring, head, window, 0, firstPart);
+            System.arraycopy(ring, 0, window, firstPart, buffered - firstPart);
+            int drop = Math.min(step, buffered);
+            for (int i = 0; i < drop; i++) {
+                ring[(head + i) % size] = null;
+            }
+            head = (head + drop) % size;
+            buffered -= drop;
+            skip = step - drop;
+            fresh = 0;
+            return (List<A>) Arrays.asList(window);
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super List<A>> action) {
+            while (buffered < size && !exhausted) {
+                if (!source.tryAdvance(this::push)) {
+                    exhausted = true;
+                }
+            }
+            if (buffered == size || fresh > 0) {
+                action.accept(emit());
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public Spliterator<List<A>> trySplit() {
+            int n = Math.min(batch + BATCH_UNIT, MAX_BATCH);
+            Object[] windows = new Object[n];
+            int[] count = new int[1];
+            while (count[0] < n && tryAdvance(w -> windows[count[0]++] = w)) {
+                // Pull windows until the batch is full or the source runs out
+            }
+            if (count[0] == 0) {
+                return null;
+            }
+            batch = count[0];
+            return Spliterators.spliterator(windows, 0, count[0], ORDERED | NONNULL);
+        }
+
+        @Override
+        public long estimateSize() {
+            long remaining = source.estimateSize();
+            return remaining == Long.MAX_VALUE ? remaining : remaining / step + 1;
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED | NONNULL;
+        }
+    }
+}
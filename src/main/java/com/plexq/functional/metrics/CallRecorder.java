@@ -0,0 +1,10 @@
+package com.plexq.functional.metrics;
+
+/**
+ * Receives the outcome of each instrumented call.  Called concurrently from every thread making calls.
+ */
+public interface CallRecorder {
+    void success(long nanos);
+
+    void failure(Throwable t, long nanos);
+}
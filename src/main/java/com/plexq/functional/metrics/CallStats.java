@@ -0,0 +1,83 @@
+package com.plexq.functional.metrics;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counters and latency histogram for one instrumented call site: every call is counted, failures are also counted by
+ * exception class, and latencies of successes and failures alike go into a LogHistogram.
+ */
+public final class CallStats implements CallRecorder, CallStatsMXBean {
+    private final String name;
+    private final LongAdder failures = new LongAdder();
+    private final ConcurrentHashMap<Class<?>, LongAdder> failuresByType = new ConcurrentHashMap<>();
+    private final LogHistogram latency = new LogHistogram();
+
+    public CallStats(String name) {
+        this.name = name;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public void success(long nanos) {
+        latency.record(nanos);
+    }
+
+    @Override
+    public void failure(Throwable t, long nanos) {
+        latency.record(nanos);
+        failures.increment();
+        failuresByType.computeIfAbsent(t.getClass(), c -> new LongAdder()).increment();
+    }
+
+    public LogHistogram getLatency() {
+        return latency;
+    }
+
+    @Override
+    public long getCalls() {
+        return latency.count();
+    }
+
+    @Override
+    public long getFailures() {
+        return failures.sum();
+    }
+
+    @Override
+    public Map<String, Long> getFailuresByType() {
+        Map<String, Long> r = new TreeMap<>();
+        failuresByType.forEach((c, n) -> r.put(c.getName(), n.sum()));
+        return r;
+    }
+
+    @Override
+    public double getMeanNanos() {
+        return latency.mean();
+    }
+
+    @Override
+    public long getMaxNanos() {
+        return latency.max();
+    }
+
+    @Override
+    public long getP50Nanos() {
+        return latency.quantile(0.5);
+    }
+
+    @Override
+    public long getP99Nanos() {
+        return latency.quantile(0.99);
+    }
+
+    @Override
+    public long getP999Nanos() {
+        return latency.quantile(0.999);
+    }
+}
@@ -0,0 +1,24 @@
+package com.plexq.functional.metrics;
+
+import java.util.Map;
+
+/**
+ * The JMX view of an instrumented call site.  Latencies are in nanoseconds.
+ */
+public interface CallStatsMXBean {
+    long getCalls();
+
+    long getFailures();
+
+    Map<String, Long> getFailuresByType();
+
+    double getMeanNanos();
+
+    long getMaxNanos();
+
+    long getP50Nanos();
+
+    long getP99Nanos();
+
+    long getP999Nanos();
+}
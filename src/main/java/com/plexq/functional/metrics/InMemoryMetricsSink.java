@@ -0,0 +1,29 @@
+package com.plexq.functional.metrics;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps a CallStats per name in memory, for reading back directly.  Call sites sharing a name share their stats.
+ */
+public class InMemoryMetricsSink implements MetricsSink {
+    private final ConcurrentHashMap<String, CallStats> stats = new ConcurrentHashMap<>();
+
+    @Override
+    public CallRecorder recorder(String name) {
+        return stats.computeIfAbsent(name, this::create);
+    }
+
+    protected CallStats create(String name) {
+        return new CallStats(name);
+    }
+
+    public CallStats get(String name) {
+        return stats.get(name);
+    }
+
+    public Map<String, CallStats> getAll() {
+        return Collections.unmodifiableMap(stats);
+    }
+}
@@ -0,0 +1,195 @@
+package com.plexq.functional.metrics;
+
+import com.plexq.functional.ExceptionalBiConsumer;
+import com.plexq.functional.ExceptionalConsumer;
+import com.plexq.functional.ExceptionalFunction;
+import com.plexq.functional.ExceptionalPredicate;
+import com.plexq.functional.ExceptionalRunnable;
+import com.plexq.functional.ExceptionalSupplier;
+
+/**
+ * Wraps Exceptional* functions so that every call reports its latency and outcome to the installed MetricsSink.
+ *
+ * The sink is global, an InMemoryMetricsSink by default.  Installing a null sink disables instrumentation, after
+ * which a wrapped call costs one volatile read and a null check on top of the call itself.  Each wrapper resolves its
+ * recorder once per sink, not per call.
+ */
+public final class Instrumentation {
+    private static volatile MetricsSink sink = new InMemoryMetricsSink();
+
+    private Instrumentation() {
+    }
+
+    public static MetricsSink getSink() {
+        return sink;
+    }
+
+    /**
+     * @param s the sink for all instrumented calls from now on, or null to disable instrumentation
+     */
+    public static void setSink(MetricsSink s) {
+        sink = s;
+    }
+
+    public static void disable() {
+        setSink(null);
+    }
+
+    /**
+     * The recorder for a name under the current sink, cached until the sink changes.
+     */
+    private static final class Probe {
+        private static final class Binding {
+            final MetricsSink sink;
+            final CallRecorder recorder;
+
+            Binding(MetricsSink sink, CallRecorder recorder) {
+                this.sink = sink;
+                this.recorder = recorder;
+            }
+        }
+
+        private final String name;
+        private volatile Binding binding;
+
+        Probe(String name) {
+            this.name = name;
+        }
+
+        CallRecorder recorder() {
+            MetricsSink s = sink;
+            if (s == null) {
+                return null;
+            }
+            Binding b = binding;
+            if (b == null || b.sink != s) {
+                b = new Binding(s, s.recorder(name));
+                binding = b;
+            }
+            return b.recorder;
+        }
+    }
+
+    public static <A, B> ExceptionalFunction<A, B> function(String name, ExceptionalFunction<A, B> f) {
+        Probe probe = new Probe(name);
+        return a -> {
+            CallRecorder r = probe.recorder();
+            if (r == null) {
+                return f.f(a);
+            }
+            long start = System.nanoTime();
+            B b;
+            try {
+                b = f.f(a);
+            }
+            catch (Exception | Error e) {
+                r.failure(e, System.nanoTime() - start);
+                throw e;
+            }
+            r.success(System.nanoTime() - start);
+            return b;
+        };
+    }
+
+    public static <A> ExceptionalPredicate<A> predicate(String name, ExceptionalPredicate<A> p) {
+        Probe probe = new Probe(name);
+        return a -> {
+            CallRecorder r = probe.recorder();
+            if (r == null) {
+                return p.apply(a);
+            }
+            long start = System.nanoTime();
+            boolean b;
+            try {
+                b = p.apply(a);
+            }
+            catch (Exception | Error e) {
+                r.failure(e, System.nanoTime() - start);
+                throw e;
+            }
+            r.success(System.nanoTime() - start);
+            return b;
+        };
+    }
+
+    public static <A> ExceptionalConsumer<A> consumer(String name, ExceptionalConsumer<A> c) {
+        Probe probe = new Probe(name);
+        return a -> {
+            CallRecorder r = probe.recorder();
+            if (r == null) {
+                c.apply(a);
+                return;
+            }
+            long start = System.nanoTime();
+            try {
+                c.apply(a);
+            }
+            catch (Exception | Error e) {
+                r.failure(e, System.nanoTime() - start);
+                throw e;
+            }
+            r.success(System.nanoTime() - start);
+        };
+    }
+
+    public static <A, B> ExceptionalBiConsumer<A, B> biConsumer(String name, ExceptionalBiConsumer<A, B> c) {
+        Probe probe = new Probe(name);
+        return (a, b) -> {
+            CallRecorder r = probe.recorder();
+            if (r == null) {
+                c.apply(a, b);
+                return;
+            }
+            long start = System.nanoTime();
+            try {
+                c.apply(a, b);
+            }
+            catch (Exception | Error e) {
+                r.failure(e, System.nanoTime() - start);
+                throw e;
+            }
+            r.success(System.nanoTime() - start);
+        };
+    }
+
+    public static <A> ExceptionalSupplier<A> supplier(String name, ExceptionalSupplier<A> s) {
+        Probe probe = new Probe(name);
+        return () -> {
+            CallRecorder r = probe.recorder();
+            if (r == null) {
+                return s.apply();
+            }
+            long start = System.nanoTime();
+            A a;
+            try {
+                a = s.apply();
+            }
+            catch (Exception | Error e) {
+                r.failure(e, System.nanoTime() - start);
+                throw e;
+            }
+            r.success(System.nanoTime() - start);
+            return a;
+        };
+    }
+
+    public static ExceptionalRunnable runnable(String name, ExceptionalRunnable f) {
+        Probe probe = new Probe(name);
+        return () -> {
+            CallRecorder r = probe.recorder();
+            if (r == null) {
+                f.apply();
+                return;
+            }
+            long start = System.nanoTime();
+            try {
+                f.apply();
+            }
+            catch (Exception | Error e) {
+                r.failure(e, System.nanoTime() - start);
+                throw e;
+            }
+            r.success(System.nanoTime() - start);
+        };
+    }
+}
@@ -0,0 +1,55 @@
+package com.plexq.functional.metrics;
+
+import java.lang.management.ManagementFactory;
+
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * Keeps stats in memory as InMemoryMetricsSink does, and also registers each name's CallStats as an MXBean named
+ * com.plexq.functional:type=Instrumented,name=&lt;name&gt;.  A bean already registered under that name, for example by
+ * an earlier sink, is replaced.
+ */
+public class JmxMetricsSink extends InMemoryMetricsSink {
+    public static final String DOMAIN = "com.plexq.functional";
+
+    private final MBeanServer server;
+
+    public JmxMetricsSink() {
+        this(ManagementFactory.getPlatformMBeanServer());
+    }
+
+    public JmxMetricsSink(MBeanServer server) {
+        this.server = server;
+    }
+
+    public static ObjectName objectName(String name) {
+        try {
+            return new ObjectName(DOMAIN + ":type=Instrumented,name=" + ObjectName.quote(name));
+        }
+        catch (JMException e) {
+            throw new IllegalArgumentException("Cannot build an ObjectName for " + name, e);
+        }
+    }
+
+    @Override
+    protected CallStats create(String name) {
+        CallStats stats = super.create(name);
+        ObjectName objectName = objectName(name);
+        try {
+            try {
+                server.registerMBean(stats, objectName);
+            }
+            catch (InstanceAlreadyExistsException e) {
+                server.unregisterMBean(objectName);
+                server.registerMBean(stats, objectName);
+            }
+        }
+        catch (JMException e) {
+            throw new IllegalStateException("Cannot register " + objectName, e);
+        }
+        return stats;
+    }
+}
@@ -0,0 +1,93 @@
+package com.plexq.functional.metrics;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A fixed memory histogram of non-negative longs, such as latencies in nanoseconds.
+ *
+ * Values are counted in logarithmic buckets: one per power of two, each split into four linear sub-buckets, so any
+ * recorded value is reported to within 25% whatever its magnitude, using 256 counters in all.  Counters are
+ * LongAdders, so concurrent recording doesn't contend.
+ */
+public final class LogHistogram {
+    private static final int SUB_BITS = 2;
+    private static final int SUB_BUCKETS = 1 << SUB_BITS;
+    private static final int BUCKETS = 64 * SUB_BUCKETS;
+
+    private final LongAdder[] counts = new LongAdder[BUCKETS];
+    private final LongAdder total = new LongAdder();
+    private final LongAdder sum = new LongAdder();
+    private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+    public LogHistogram() {
+        for (int i = 0; i < BUCKETS; i++) {
+            counts[i] = new LongAdder();
+        }
+    }
+
+    static int bucket(long v) {
+        if (v < SUB_BUCKETS) {
+            return (int) Math.max(v, 0);
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(v);
+        int sub = (int) (v >>> (exponent - SUB_BITS)) & (SUB_BUCKETS - 1);
+        return (exponent - SUB_BITS + 1) * SUB_BUCKETS + sub;
+    }
+
+    /**
+     * The largest value that falls in bucket b.
+     */
+    static long upperBound(int b) {
+        if (b < SUB_BUCKETS) {
+            return b;
+        }
+        int exponent = b / SUB_BUCKETS + SUB_BITS - 1;
+        int sub = b % SUB_BUCKETS;
+        long lower = (1L << exponent) + ((long) sub << (exponent - SUB_BITS));
+        return lower + (1L << (exponent - SUB_BITS)) - 1;
+    }
+
+    public void record(long v) {
+        counts[bucket(v)].increment();
+        total.increment();
+        sum.add(v);
+        max.accumulate(v);
+    }
+
+    public long count() {
+        return total.sum();
+    }
+
+    public long max() {
+        return max.get();
+    }
+
+    public double mean() {
+        long n = total.sum();
+        return n == 0 ? 0 : (double) sum.sum() / n;
+    }
+
+    /**
+     * An upper bound, within 25%, of the q quantile of the recorded values, or 0 if nothing has been recorded.
+     * @param q a quantile between 0 and 1, such as 0.99
+     */
+    public long quantile(double q) {
+        if (q < 0 || q > 1) {
+            throw new IllegalArgumentException("Quantile must be between 0 and 1: " + q);
+        }
+        long n = total.sum();
+        if (n == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(q * n));
+        long seen = 0;
+        for (int b = 0; b < BUCKETS; b++) {
+            seen += counts[b].sum();
+            if (seen >= rank) {
+                return Math.min(upperBound(b), max.get());
+            }
+        }
+        return max.get();
+    }
+}
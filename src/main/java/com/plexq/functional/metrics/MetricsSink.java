@@ -0,0 +1,12 @@
+package com.plexq.functional.metrics;
+
+/**
+ * Service provider interface for where instrumented calls report to.  Install an implementation with
+ * Instrumentation.setSink.
+ *
+ * recorder is called once per instrumented call site per sink, not per call, so it may do some work such as
+ * registering an MBean; the recorders it returns are called on every invocation and must be cheap and thread safe.
+ */
+public interface MetricsSink {
+    CallRecorder recorder(String name);
+}
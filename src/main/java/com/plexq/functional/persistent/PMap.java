@@ -0,0 +1,400 @@
+package com.plexq.functional.persistent;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * An immutable hash map with structural sharing, as a hash array mapped trie (HAMT).
+ *
+ * Each level of the trie consumes five bits of the key's hash and stores only the populated slots of its 32, indexed by
+ * a bitmap.  plus and minus return a new map and leave this one untouched, copying just the nodes on the path to the
+ * changed entry, O(log32 n); the old and new versions share everything else.  Keys whose full hashes collide share a
+ * collision node.
+ *
+ * PMap is a read-only java.util.Map: the java.util mutators throw UnsupportedOperationException.  Null keys are not
+ * permitted, null values are.
+ *
+ * @param <K> Parameterized type of the keys
+ * @param <V> Parameterized type of the values
+ */
+public final class PMap<K, V> extends AbstractMap<K, V> {
+    private static final Object NOT_FOUND = new Object();
+    private static final PMap<?, ?> EMPTY = new PMap<>(0, null);
+
+    private final int size;
+    private final Node root;
+
+    private PMap(int size, Node root) {
+        this.size = size;
+        this.root = root;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <K, V> PMap<K, V> empty() {
+        return (PMap<K, V>) EMPTY;
+    }
+
+    public static <K, V> PMap<K, V> from(Map<? extends K, ? extends V> m) {
+        PMap<K, V> r = empty();
+        for (Map.Entry<? extends K, ? extends V> e : m.entrySet()) {
+            r = r.plus(e.getKey(), e.getValue());
+        }
+        return r;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V get(Object key) {
+        if (key == null || root == null) {
+            return null;
+        }
+        Object r = root.find(0, hash(key), key);
+        return r == NOT_FOUND ? null : (V) r;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return key != null && root != null && root.find(0, hash(key), key) != NOT_FOUND;
+    }
+
+    /**
+     * A map with key associated to value, replacing any existing association.
+     */
+    public PMap<K, V> plus(K key, V value) {
+        Objects.requireNonNull(key, "PMap keys must not be null");
+        boolean[] added = new boolean[1];
+        Node newRoot = (root == null ? BitmapNode.EMPTY : root).assoc(0, hash(key), key, value, added);
+        if (newRoot == root) {
+            return this;
+        }
+        return new PMap<>(added[0] ? size + 1 : size, newRoot);
+    }
+
+    /**
+     * A map without key.
+     */
+    public PMap<K, V> minus(Object key) {
+        if (key == null || root == null) {
+            return this;
+        }
+        Node newRoot = root.without(0, hash(key), key);
+        if (newRoot == root) {
+            return this;
+        }
+        return newRoot == null ? empty() : new PMap<>(size - 1, newRoot);
+    }
+
+    /**
+     * A map with the same keys, each associated to f of its value.  The keys hash as before, so the trie keeps its
+     * shape: every node is copied once with its values replaced, O(n), rather than rebuilt one plus at a time.
+     */
+    @SuppressWarnings("unchecked")
+    public <W> PMap<K, W> mapValues(Function<? super V, ? extends W> f) {
+        if (root == null) {
+            return empty();
+        }
+        return new PMap<>(size, root.mapValues((Function<Object, Object>) f));
+    }
+
+    @Override
+    public Set<Map.Entry<K, V>> entrySet() {
+        return new AbstractSet<Map.Entry<K, V>>() {
+            @Override
+            public Iterator<Map.Entry<K, V>> iterator() {
+                return new EntryIterator<>(root);
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+    }
+
+    private static int hash(Object key) {
+        int h = key.hashCode();
+        return h ^ (h >>> 16);
+    }
+
+    private static int bit(int hash, int shift) {
+        return 1 << ((hash >>> shift) & 31);
+    }
+
+    /**
+     * Nodes hold their contents as an array of key, value pairs.  In a BitmapNode a null key marks a slot whose value is
+     * a child Node; a CollisionNode only ever holds entries.
+     */
+    private abstract static class Node {
+        final Object[] array;
+
+        Node(Object[] array) {
+            this.array = array;
+        }
+
+        abstract Object find(int shift, int hash, Object key);
+
+        abstract Node assoc(int shift, int hash, Object key, Object value, boolean[] added);
+
+        /**
+         * @return this if key is absent, or null if removing it leaves the node empty
+         */
+        abstract Node without(int shift, int hash, Object key);
+
+        abstract Node withArray(Object[] array);
+
+        /**
+         * A copy of this node with f applied to every value, and the same done to every child node.
+         */
+        Node mapValues(Function<Object, Object> f) {
+            Object[] r = new Object[array.length];
+            for (int i = 0; i < array.length; i += 2) {
+                r[i] = array[i];
+                r[i + 1] = array[i] == null ? ((Node) array[i + 1]).mapValues(f) : f.apply(array[i + 1]);
+            }
+            return withArray(r);
+        }
+    }
+
+    private static final class BitmapNode extends Node {
+        static final BitmapNode EMPTY = new BitmapNode(0, new Object[0]);
+
+        final int bitmap;
+
+        BitmapNode(int bitmap, Object[] array) {
+            super(array);
+            this.bitmap = bitmap;
+        }
+
+        private int index(int bit) {
+            return Integer.bitCount(bitmap & (bit - 1));
+        }
+
+        @Override
+        Object find(int shift, int hash, Object key) {
+            int bit = bit(hash, shift);
+            if ((bitmap & bit) == 0) {
+                return NOT_FOUND;
+            }
+            int i = 2 * index(bit);
+            Object k = array[i];
+            Object v = array[i + 1];
+            if (k == null) {
+                return ((Node) v).find(shift + 5, hash, key);
+            }
+            return key.equals(k) ? v : NOT_FOUND;
+        }
+
+        @Override
+        Node assoc(int shift, int hash, Object key, Object value, boolean[] added) {
+            int bit = bit(hash, shift);
+            int i = 2 * index(bit);
+            if ((bitmap & bit) == 0) {
+                Object[] r = new Object[array.length + 2];
+                System.arraycopy(array, 0, r, 0, i);
+                r[i] = key;
+                r[i + 1] = value;
+                System.arraycopy(array, i, r, i + 2, array.length - i);
+                added[0] = true;
+                return new BitmapNode(bitmap | bit, r);
+            }
+            Object k = array[i];
+            Object v = array[i + 1];
+            if (k == null) {
+                Node child = (Node) v;
+                Node n = child.assoc(shift + 5, hash, key, value, added);
+                return n == child ? this : with(i + 1, n);
+            }
+            if (key.equals(k)) {
+                return v == value ? this : with(i + 1, value);
+            }
+            added[0] = true;
+            Object[] r = array.clone();
+            r[i] = null;
+            r[i + 1] = pair(shift + 5, k, v, hash, key, value);
+            return new BitmapNode(bitmap, r);
+        }
+
+        @Override
+        Node without(int shift, int hash, Object key) {
+            int bit = bit(hash, shift);
+            if ((bitmap & bit) == 0) {
+                return this;
+            }
+            int i = 2 * index(bit);
+            Object k = array[i];
+            if (k == null) {
+                Node child = (Node) array[i + 1];
+                Node n = child.without(shift + 5, hash, key);
+                if (n == child) {
+                    return this;
+                }
+                if (n != null) {
+                    return with(i + 1, n);
+                }
+            }
+            else if (!key.equals(k)) {
+                return this;
+            }
+            if (bitmap == bit) {
+                return null;
+            }
+            Object[] r = new Object[array.length - 2];
+            System.arraycopy(array, 0, r, 0, i);
+            System.arraycopy(array, i + 2, r, i, array.length - i - 2);
+            return new BitmapNode(bitmap & ~bit, r);
+        }
+
+        @Override
+        Node withArray(Object[] array) {
+            return new BitmapNode(bitmap, array);
+        }
+
+        private BitmapNode with(int i, Object o) {
+            Object[] r = array.clone();
+            r[i] = o;
+            return new BitmapNode(bitmap, r);
+        }
+
+        private static Node pair(int shift, Object k1, Object v1, int h2, Object k2, Object v2) {
+            int h1 = hash(k1);
+            if (h1 == h2) {
+                return new CollisionNode(h1, new Object[] { k1, v1, k2, v2 });
+            }
+            boolean[] ignored = new boolean[1];
+            return EMPTY.assoc(shift, h1, k1, v1, ignored).assoc(shift, h2, k2, v2, ignored);
+        }
+    }
+
+    private static final class CollisionNode extends Node {
+        final int hash;
+
+        CollisionNode(int hash, Object[] array) {
+            super(array);
+            this.hash = hash;
+        }
+
+        @Override
+        Node withArray(Object[] array) {
+            return new CollisionNode(hash, array);
+        }
+
+        private int indexOf(Object key) {
+            for (int i = 0; i < array.length; i += 2) {
+                if (key.equals(array[i])) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        @Override
+        Object find(int shift, int hash, Object key) {
+            int i = indexOf(key);
+            return i < 0 ? NOT_FOUND : array[i + 1];
+        }
+
+        @Override
+        Node assoc(int shift, int hash, Object key, Object value, boolean[] added) {
+            if (hash != this.hash) {
+                return new BitmapNode(bit(this.hash, shift), new Object[] { null, this })
+                        .assoc(shift, hash, key, value, added);
+            }
+            int i = indexOf(key);
+            if (i >= 0) {
+                if (array[i + 1] == value) {
+                    return this;
+                }
+                Object[] r = array.clone();
+                r[i + 1] = value;
+                return new CollisionNode(hash, r);
+            }
+            Object[] r = new Object[array.length + 2];
+            System.arraycopy(array, 0, r, 0, array.length);
+            r[array.length] = key;
+            r[array.length + 1] = value;
+            added[0] = true;
+            return new CollisionNode(hash, r);
+        }
+
+        @Override
+        Node without(int shift, int hash, Object key) {
+            int i = indexOf(key);
+            if (i < 0) {
+                return this;
+            }
+            if (array.length == 2) {
+                return null;
+            }
+            Object[] r = new Object[array.length - 2];
+            System.arraycopy(array, 0, r, 0, i);
+            System.arraycopy(array, i + 2, r, i, array.length - i - 2);
+            return new CollisionNode(hash, r);
+        }
+    }
+
+    /**
+     * Depth first walk over the trie, keeping a stack of node arrays and positions within them.
+     */
+    private static final class EntryIterator<K, V> implements Iterator<Map.Entry<K, V>> {
+        private final Deque<Object[]> arrays = new ArrayDeque<>();
+        private final Deque<Integer> positions = new ArrayDeque<>();
+        private Map.Entry<K, V> next;
+
+        EntryIterator(Node root) {
+            if (root != null) {
+                arrays.push(root.array);
+                positions.push(0);
+            }
+            advance();
+        }
+
+        @SuppressWarnings("unchecked")
+        private void advance() {
+            next = null;
+            while (next == null && !arrays.isEmpty()) {
+                Object[] array = arrays.peek();
+                int i = positions.pop();
+                if (i >= array.length) {
+                    arrays.pop();
+                    continue;
+                }
+                positions.push(i + 2);
+                if (array[i] == null) {
+                    arrays.push(((Node) array[i + 1]).array);
+                    positions.push(0);
+                }
+                else {
+                    next = new AbstractMap.SimpleImmutableEntry<>((K) array[i], (V) array[i + 1]);
+                }
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next != null;
+        }
+
+        @Override
+        public Map.Entry<K, V> next() {
+            if (next == null) {
+                throw new NoSuchElementException();
+            }
+            Map.Entry<K, V> r = next;
+            advance();
+            return r;
+        }
+    }
+}
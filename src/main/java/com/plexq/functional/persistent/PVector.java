@@ -0,0 +1,258 @@
+package com.plexq.functional.persistent;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.RandomAccess;
+import java.util.stream.Collector;
+
+/**
+ * An immutable vector with structural sharing, as a bit-partitioned trie of 32-way nodes plus a tail, in the style of
+ * Clojure's PersistentVector.
+ *
+ * plus and with return a new vector and leave this one untouched, but only copy the path from the root to the changed
+ * leaf, O(log32 n), rather than the whole vector; the old and new versions share everything else.  Appends only touch
+ * the tail until it fills, so they are amortized constant time.  Reads are O(log32 n), which is at most 7 levels for
+ * any int sized vector.
+ *
+ * PVector is a read-only java.util.List: the java.util mutators throw UnsupportedOperationException.
+ *
+ * @param <A> Parameterized type of the elements
+ */
+public final class PVector<A> extends AbstractList<A> implements RandomAccess {
+    private static final int BITS = 5;
+    private static final int WIDTH = 1 << BITS;
+    private static final int MASK = WIDTH - 1;
+    private static final Object[] EMPTY_TAIL = new Object[0];
+    private static final PVector<?> EMPTY = new PVector<>(0, BITS, new Object[WIDTH], EMPTY_TAIL);
+
+    private final int size;
+    private final int shift;
+    // Internal nodes and leaves are Object[WIDTH]; a leaf holds elements, an internal node holds child nodes
+    private final Object[] root;
+    private final Object[] tail;
+
+    private PVector(int size, int shift, Object[] root, Object[] tail) {
+        this.size = size;
+        this.shift = shift;
+        this.root = root;
+        this.tail = tail;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <A> PVector<A> empty() {
+        return (PVector<A>) EMPTY;
+    }
+
+    @SafeVarargs
+    public static <A> PVector<A> of(A... as) {
+        Builder<A> b = new Builder<>();
+        for (A a : as) {
+            b.add(a);
+        }
+        return b.build();
+    }
+
+    public static <A> PVector<A> from(Iterable<? extends A> as) {
+        Builder<A> b = new Builder<>();
+        for (A a : as) {
+            b.add(a);
+        }
+        return b.build();
+    }
+
+    public static <A> Builder<A> builder() {
+        return new Builder<>();
+    }
+
+    public static <A> Collector<A, ?, PVector<A>> collector() {
+        return Collector.of(Builder<A>::new, Builder::add, (x, y) -> {
+            for (A a : y.build()) {
+                x.add(a);
+            }
+            return x;
+        }, Builder::build);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public A get(int i) {
+        if (i < 0 || i >= size) {
+            throw new IndexOutOfBoundsException("Index: " + i + ", Size: " + size);
+        }
+        return (A) leafFor(i)[i & MASK];
+    }
+
+    /**
+     * A vector with a appended at the end.
+     */
+    public PVector<A> plus(A a) {
+        int tailSize = size - tailOffset();
+        if (tailSize < WIDTH) {
+            Object[] newTail = Arrays.copyOf(tail, tailSize + 1);
+            newTail[tailSize] = a;
+            return new PVector<>(size + 1, shift, root, newTail);
+        }
+        Object[] newRoot;
+        int newShift = shift;
+        if ((size >>> BITS) > (1 << shift)) {
+            newRoot = new Object[WIDTH];
+            newRoot[0] = root;
+            newRoot[1] = newPath(shift, tail);
+            newShift += BITS;
+        }
+        else {
+            newRoot = pushTail(size, shift, root, tail, true);
+        }
+        return new PVector<>(size + 1, newShift, newRoot, new Object[] { a });
+    }
+
+    /**
+     * A vector with the element at index i replaced by a.  i may also be size, which appends.
+     */
+    public PVector<A> with(int i, A a) {
+        if (i == size) {
+            return plus(a);
+        }
+        if (i < 0 || i > size) {
+            throw new IndexOutOfBoundsException("Index: " + i + ", Size: " + size);
+        }
+        if (i >= tailOffset()) {
+            Object[] newTail = tail.clone();
+            newTail[i & MASK] = a;
+            return new PVector<>(size, shift, root, newTail);
+        }
+        return new PVector<>(size, shift, assoc(shift, root, i, a), tail);
+    }
+
+    @Override
+    public Iterator<A> iterator() {
+        return new Iterator<A>() {
+            private int i;
+            private Object[] leaf = size == 0 ? null : leafFor(0);
+
+            @Override
+            public boolean hasNext() {
+                return i < size;
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public A next() {
+                if (i >= size) {
+                    throw new NoSuchElementException();
+                }
+                if (i > 0 && (i & MASK) == 0) {
+                    leaf = leafFor(i);
+                }
+                return (A) leaf[i++ & MASK];
+            }
+        };
+    }
+
+    private int tailOffset() {
+        return size < WIDTH ? 0 : ((size - 1) >>> BITS) << BITS;
+    }
+
+    private Object[] leafFor(int i) {
+        if (i >= tailOffset()) {
+            return tail;
+        }
+        Object[] node = root;
+        for (int level = shift; level > 0; level -= BITS) {
+            node = (Object[]) node[(i >>> level) & MASK];
+        }
+        return node;
+    }
+
+    private static Object[] assoc(int level, Object[] node, int i, Object a) {
+        Object[] r = node.clone();
+        if (level == 0) {
+            r[i & MASK] = a;
+        }
+        else {
+            int sub = (i >>> level) & MASK;
+            r[sub] = assoc(level - BITS, (Object[]) node[sub], i, a);
+        }
+        return r;
+    }
+
+    /**
+     * Push a full tail into the trie of a vector of size elements, tail included.  When copy is false the trie is
+     * modified in place, which is only safe while it is still private to a Builder.
+     */
+    private static Object[] pushTail(int size, int level, Object[] parent, Object[] tail, boolean copy) {
+        int sub = ((size - 1) >>> level) & MASK;
+        Object[] r = copy ? parent.clone() : parent;
+        if (level == BITS) {
+            r[sub] = tail;
+        }
+        else {
+            Object[] child = (Object[]) parent[sub];
+            r[sub] = child != null ? pushTail(size, level - BITS, child, tail, copy) : newPath(level - BITS, tail);
+        }
+        return r;
+    }
+
+    private static Object[] newPath(int level, Object[] node) {
+        if (level == 0) {
+            return node;
+        }
+        Object[] r = new Object[WIDTH];
+        r[0] = newPath(level - BITS, node);
+        return r;
+    }
+
+    /**
+     * Builds a PVector by appending in place, without the path copying that plus does.  A builder can only be built
+     * once.
+     */
+    public static final class Builder<A> {
+        private int size;
+        private int shift = BITS;
+        private Object[] root = new Object[WIDTH];
+        private Object[] tail = new Object[WIDTH];
+        private int tailSize;
+        private boolean built;
+
+        private Builder() {
+        }
+
+        public Builder<A> add(A a) {
+            if (built) {
+                throw new IllegalStateException("PVector.Builder has already been built");
+            }
+            if (tailSize == WIDTH) {
+                if ((size >>> BITS) > (1 << shift)) {
+                    Object[] newRoot = new Object[WIDTH];
+                    newRoot[0] = root;
+                    newRoot[1] = newPath(shift, tail);
+                    root = newRoot;
+                    shift += BITS;
+                }
+                else {
+                    root = pushTail(size, shift, root, tail, false);
+                }
+                tail = new Object[WIDTH];
+                tailSize = 0;
+            }
+            tail[tailSize++] = a;
+            size++;
+            return this;
+        }
+
+        public PVector<A> build() {
+            built = true;
+            if (size == 0) {
+                return empty();
+            }
+            return new PVector<>(size, shift, root, Arrays.copyOf(tail, tailSize));
+        }
+    }
+}
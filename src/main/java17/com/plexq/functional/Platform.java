@@ -0,0 +1,24 @@
+package com.plexq.functional;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * The Java 17 replacement of the baseline Platform, packaged under META-INF/versions/17.  Stream.mapMulti pushes each
+ * present value straight downstream without the extra filter and map stages, and Objects.checkIndex is a JIT
+ * intrinsic.
+ */
+final class Platform {
+    private Platform() {
+    }
+
+    static <A, B> Stream<B> flatMap(Stream<A> s, Function<A, Optional<B>> f) {
+        return s.<B>mapMulti((a, out) -> f.apply(a).ifPresent(out));
+    }
+
+    static int checkIndex(int i, int size) {
+        return Objects.checkIndex(i, size);
+    }
+}
@@ -0,0 +1,90 @@
+package com.plexq.functional;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.OptionalDouble;
+import java.util.OptionalInt;
+import java.util.OptionalLong;
+import java.util.stream.Collectors;
+
+import org.junit.Test;
+
+import com.plexq.functional.Tuple.Tuple2;
+import com.plexq.functional.Tuple.Tuple3;
+
+import static com.plexq.functional.Aggregates.*;
+import static com.plexq.functional.Functional.*;
+import static org.junit.Assert.*;
+
+public class AggregatesTest {
+    private static List<String> threeList = Arrays.asList("Alpha", "Beta", "Gamma");
+
+    @Test
+    public void aggregateShouldComputeEveryCollectorInOnePass() {
+        List<String> seen = new ArrayList<>();
+
+        Tuple3<Long, Long, OptionalInt> r = aggregate(threeList, Aggregates.<String>count(),
+                sumInt(x -> { seen.add(x); return x.length(); }), maxInt(String::length));
+
+        assertEquals(Long.valueOf(3), r._1);
+        assertEquals(Long.valueOf(14), r._2);
+        assertEquals(OptionalInt.of(5), r._3);
+        assertEquals(threeList, seen);
+    }
+
+    @Test
+    public void aggregateShouldAcceptStandardCollectors() {
+        Tuple2<List<Integer>, String> r = aggregate(new LinkedList<>(threeList),
+                Collectors.mapping(String::length, Collectors.toList()), Collectors.joining(","));
+
+        assertEquals(Arrays.asList(5, 4, 5), r._1);
+        assertEquals("Alpha,Beta,Gamma", r._2);
+    }
+
+    @Test
+    public void aggregateOfEmptyListShouldYieldEmptyExtremes() {
+        Tuple2<OptionalLong, OptionalDouble> r = aggregate(Collections.<String>emptyList(),
+                minLong(String::length), maxDouble(String::length));
+
+        assertFalse(r._1.isPresent());
+        assertFalse(r._2.isPresent());
+    }
+
+    @Test
+    public void combinedCollectorsShouldMatchSequentialOnParallelStreams() {
+        List<Integer> v = new ArrayList<>();
+        for (int i = 0; i < 100000; i++) {
+            v.add(i % 1000 - 500);
+        }
+
+        Tuple3<Long, OptionalInt, OptionalInt> parallel = v.parallelStream()
+                .collect(all(sumInt(x -> x), minInt(x -> x), maxInt(x -> x)));
+        Tuple3<Long, OptionalInt, OptionalInt> sequential = aggregate(v, sumInt(x -> x), minInt(x -> x), maxInt(x -> x));
+
+        assertEquals(sequential, parallel);
+        assertEquals(OptionalInt.of(-500), parallel._2);
+        assertEquals(OptionalInt.of(499), parallel._3);
+    }
+
+    @Test
+    public void sumIntShouldNotOverflow() {
+        Tuple2<Long, Long> r = aggregate(Arrays.asList(Integer.MAX_VALUE, Integer.MAX_VALUE), sumInt(x -> x),
+                sumLong(x -> x));
+
+        assertEquals(Long.valueOf(2L * Integer.MAX_VALUE), r._1);
+        assertEquals(r._1, r._2);
+    }
+
+    @Test
+    public void doubleAggregatesShouldComputeSumAndExtremes() {
+        Tuple3<Double, OptionalDouble, OptionalDouble> r = aggregate(Arrays.asList(1.5, -2.0, 4.0),
+                sumDouble(x -> x), minDouble(x -> x), maxDouble(x -> x));
+
+        assertEquals(3.5, r._1, 0.0);
+        assertEquals(OptionalDouble.of(-2.0), r._2);
+        assertEquals(OptionalDouble.of(4.0), r._3);
+    }
+}
@@ -0,0 +1,148 @@
+package com.plexq.functional;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static com.plexq.functional.Functional.*;
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+
+public class AsyncTest {
+    private ExecutorService executor;
+
+    @Before
+    public void setUp() {
+        executor = Executors.newFixedThreadPool(4);
+    }
+
+    @After
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    private static Integer parse(String x) throws IOException {
+        if (x.isEmpty()) {
+            throw new IOException("Empty input");
+        }
+        return Integer.parseInt(x);
+    }
+
+    private static Throwable failureOf(CompletableFuture<?> f) throws InterruptedException {
+        try {
+            f.get(5, TimeUnit.SECONDS);
+            fail("Expected the future to fail");
+            return null;
+        }
+        catch (ExecutionException e) {
+            return e.getCause();
+        }
+        catch (TimeoutException e) {
+            throw new AssertionError(e);
+        }
+    }
+
+    @Test
+    public void asyncShouldCompleteWithTheSuppliedValue() throws Exception {
+        assertThat(async(() -> parse("42"), executor).get(), is(42));
+        assertThat(async(() -> parse("7")).get(), is(7));
+    }
+
+    @Test
+    public void asyncShouldFailWithTheOriginalCheckedException() throws Exception {
+        Throwable t = failureOf(async(() -> parse(""), executor));
+
+        assertThat(t, instanceOf(IOException.class));
+        assertThat(t.getMessage(), is("Empty input"));
+    }
+
+    @Test
+    public void asyncOnARejectingExecutorShouldFail() throws Exception {
+        executor.shutdown();
+
+        assertThat(failureOf(async(() -> parse("1"), executor)), instanceOf(RejectedExecutionException.class));
+    }
+
+    @Test
+    public void eMapAsyncShouldKeepInputOrder() throws Exception {
+        List<String> v = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            v.add(Integer.toString(i));
+        }
+
+        List<Integer> r = eMapAsync(v, x -> {
+            Thread.sleep(10 - Integer.parseInt(x) % 10);
+            return parse(x);
+        }, executor).get();
+
+        assertThat(r, is(Functional.map(v, Integer::parseInt)));
+    }
+
+    @Test
+    public void eMapAsyncShouldFailWithTheOriginalCheckedException() throws Exception {
+        Throwable t = failureOf(eMapAsync(Arrays.asList("1", "", "3"), AsyncTest::parse, executor));
+
+        assertThat(t, instanceOf(IOException.class));
+    }
+
+    @Test
+    public void sequenceOfNothingShouldBeAnEmptyList() throws Exception {
+        assertTrue(sequence(Collections.<CompletableFuture<String>>emptyList()).get().isEmpty());
+    }
+
+    @Test
+    public void sequenceShouldUnwrapWrappedCheckedExceptions() throws Exception {
+        CompletableFuture<Integer> wrapped = CompletableFuture.supplyAsync(exceptionalS(() -> parse("")), executor);
+
+        Throwable t = failureOf(sequence(Arrays.asList(CompletableFuture.completedFuture(1), wrapped)));
+
+        assertThat(t, instanceOf(IOException.class));
+    }
+
+    @Test
+    public void sequenceShouldFailWithoutWaitingForSlowerFutures() throws Exception {
+        CompletableFuture<Integer> never = new CompletableFuture<>();
+        CompletableFuture<Integer> failed = new CompletableFuture<>();
+        failed.completeExceptionally(new IOException("Failed"));
+
+        assertThat(failureOf(sequence(Arrays.asList(never, failed))), instanceOf(IOException.class));
+    }
+
+    @Test
+    public void traverseShouldNotBlockAThreadPerElement() throws Exception {
+        // Every future is completed by the test thread after traverse returns, so nothing can be waiting on them
+        List<CompletableFuture<Integer>> pending = new ArrayList<>();
+        CompletableFuture<List<Integer>> r = traverse(Arrays.asList(1, 2, 3), x -> {
+            CompletableFuture<Integer> f = new CompletableFuture<>();
+            pending.add(f);
+            return f;
+        });
+        assertFalse(r.isDone());
+
+        for (int i = pending.size() - 1; i >= 0; i--) {
+            pending.get(i).complete(i * 10);
+        }
+
+        assertThat(r.get(), is(Arrays.asList(0, 10, 20)));
+    }
+
+    @Test
+    public void asyncShouldRunOnTheExecutor() throws Exception {
+        String name = async(() -> Thread.currentThread().getName(), executor).get();
+
+        assertThat(name, startsWith("pool-"));
+    }
+}
@@ -0,0 +1,105 @@
+package com.plexq.functional;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.Test;
+
+import static com.plexq.functional.Functional.*;
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+
+public class BatchesTest {
+    private final List<List<String>> batches = Collections.synchronizedList(new ArrayList<>());
+
+    private Map<String, Integer> lengths(List<String> keys) throws Exception {
+        batches.add(new ArrayList<>(keys));
+        Map<String, Integer> r = new HashMap<>();
+        for (String k : keys) {
+            r.put(k, k.length());
+        }
+        return r;
+    }
+
+    @Test
+    public void eMapBatchedShouldCallOncePerBatchAndKeepOrder() {
+        List<Integer> r = eMapBatched(Arrays.asList("Alpha", "Beta", "Gamma", "Delta", "Pi"), 2, this::lengths);
+
+        assertThat(r, is(Arrays.asList(5, 4, 5, 5, 2)));
+        assertThat(batches, is(Arrays.asList(Arrays.asList("Alpha", "Beta"), Arrays.asList("Gamma", "Delta"),
+                Arrays.asList("Pi"))));
+    }
+
+    @Test
+    public void eMapBatchedShouldDeduplicateKeys() {
+        List<Integer> r = eMapBatched(Arrays.asList("Alpha", "Beta", "Alpha", "Beta"), 10, this::lengths);
+
+        assertThat(r, is(Arrays.asList(5, 4, 5, 4)));
+        assertThat(batches, is(Arrays.asList(Arrays.asList("Alpha", "Beta"))));
+    }
+
+    @Test
+    public void eMapBatchedOfEmptyListShouldNotCallTheFunction() {
+        assertTrue(eMapBatched(Collections.<String>emptyList(), 10, this::lengths).isEmpty());
+        assertTrue(batches.isEmpty());
+    }
+
+    @Test
+    public void eMapBatchedShouldReportMissingKeys() {
+        try {
+            eMapBatched(Arrays.asList("Alpha", "Beta"), 10, keys -> Collections.singletonMap("Alpha", 5));
+            fail("Expected eMapBatched to throw");
+        }
+        catch (IllegalStateException e) {
+            assertThat(e.getMessage(), containsString("[Beta]"));
+        }
+    }
+
+    @Test
+    public void eMapBatchedConcurrentlyShouldMatchSequential() {
+        List<String> v = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            v.add("k" + i % 300);
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Integer> r = eMapBatched(v, 16, 4, executor, this::lengths);
+
+            assertThat(r, is(Functional.map(v, String::length)));
+            assertEquals(19, batches.size());
+        }
+        finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test(expected = UncheckedExceptionalException.class)
+    public void eMapBatchedShouldRecastBatchFailure() {
+        eMapBatched(Arrays.asList("Alpha"), 10, keys -> { throw new IOException("Test Exception"); });
+    }
+
+    @Test
+    public void eMapBatchedOrderedShouldMapPositionally() {
+        List<Integer> r = eMapBatchedOrdered(Arrays.asList("Alpha", "Beta", "Alpha", "Pi"), 2,
+                keys -> Functional.map(keys, String::length));
+
+        assertThat(r, is(Arrays.asList(5, 4, 5, 2)));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void eMapBatchedOrderedShouldRejectShortResults() {
+        eMapBatchedOrdered(Arrays.asList("Alpha", "Beta"), 2, keys -> Arrays.asList(5));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void eMapBatchedShouldRejectZeroBatchSize() {
+        eMapBatched(Arrays.asList("Alpha"), 0, this::lengths);
+    }
+}
@@ -0,0 +1,32 @@
+package com.plexq.functional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.After;
+import org.junit.Before;
+
+/**
+ * A fixed pool big enough that maxInFlight, not the executor, limits how many calls run at once, and a list to run
+ * them over.
+ */
+public abstract class ConcurrentFixture {
+    protected ExecutorService executor;
+    protected List<Integer> hundred;
+
+    @Before
+    public void setUpExecutor() {
+        executor = Executors.newFixedThreadPool(16);
+        hundred = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            hundred.add(i);
+        }
+    }
+
+    @After
+    public void tearDownExecutor() {
+        executor.shutdownNow();
+    }
+}
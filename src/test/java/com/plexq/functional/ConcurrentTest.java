@@ -0,0 +1,98 @@
+package com.plexq.functional;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import static com.plexq.functional.Functional.*;
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+
+public class ConcurrentTest extends ConcurrentFixture {
+    private static void sleep(long millis) throws InterruptedException {
+        Thread.sleep(millis);
+    }
+
+    @Test
+    public void eMapConcurrentShouldKeepInputOrder() {
+        List<Integer> r = eMapConcurrent(hundred, 8, executor, x -> {
+            sleep(100 - x % 10 * 10);
+            return x * 2;
+        });
+
+        assertThat(r, is(Functional.map(hundred, x -> x * 2)));
+    }
+
+    @Test
+    public void eMapConcurrentWithDefaultExecutorShouldMapAll() {
+        assertThat(eMapConcurrent(Arrays.asList("Alpha", "Beta"), 2, String::length), is(Arrays.asList(5, 4)));
+    }
+
+    @Test
+    public void eMapConcurrentOfEmptyListShouldYieldEmptyList() {
+        assertTrue(eMapConcurrent(Collections.<String>emptyList(), 2, executor, String::length).isEmpty());
+    }
+
+    @Test
+    public void eMapConcurrentShouldNeverExceedMaxInFlight() {
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger peak = new AtomicInteger();
+
+        eMapConcurrent(hundred, 3, executor, x -> {
+            int now = inFlight.incrementAndGet();
+            peak.accumulateAndGet(now, Math::max);
+            sleep(2);
+            inFlight.decrementAndGet();
+            return x;
+        });
+
+        assertThat(peak.get(), lessThanOrEqualTo(3));
+    }
+
+    @Test
+    public void eMapConcurrentShouldRecastFailureAndCancelOutstandingCalls() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch interrupted = new CountDownLatch(1);
+
+        try {
+            eMapConcurrent(hundred, 4, executor, x -> {
+                if (x == 1) {
+                    started.await();
+                    throw new IOException("Test Exception");
+                }
+                try {
+                    started.countDown();
+                    sleep(10000);
+                }
+                catch (InterruptedException e) {
+                    interrupted.countDown();
+                    throw e;
+                }
+                return x;
+            });
+            fail("Expected eMapConcurrent to throw");
+        }
+        catch (RuntimeException e) {
+            assertThat(e.getCause(), instanceOf(IOException.class));
+        }
+        assertTrue("In flight calls should be interrupted", interrupted.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void eFlatMapConcurrentShouldConcatenateInOrder() {
+        List<String> r = eFlatMapConcurrent(Arrays.asList("Alpha", "Beta"), 2, executor, x -> Arrays.asList(x, x));
+
+        assertThat(r, is(Arrays.asList("Alpha", "Alpha", "Beta", "Beta")));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void eMapConcurrentShouldRejectZeroMaxInFlight() {
+        eMapConcurrent(hundred, 0, executor, x -> x);
+    }
+}
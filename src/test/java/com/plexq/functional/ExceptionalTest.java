@@ -0,0 +1,125 @@
+package com.plexq.functional;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+import org.junit.Test;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+
+public class ExceptionalTest {
+    private static String failChecked(String x) throws Exception {
+        throw new IOException("Test Exception");
+    }
+
+    private static String failUnchecked(String x) throws Exception {
+        throw new IllegalArgumentException("Test Exception");
+    }
+
+    @Test
+    public void checkedExceptionShouldBeWrappedWithTheOriginalAsCause() {
+        ExceptionalFunction<String, String> f = ExceptionalTest::failChecked;
+
+        try {
+            f.apply("x");
+            fail("Expected apply to throw");
+        }
+        catch (UncheckedExceptionalException e) {
+            assertThat(e.getCause(), instanceOf(IOException.class));
+            assertEquals("Test Exception", e.getCause().getMessage());
+        }
+    }
+
+    @Test
+    public void wrapperShouldNotCaptureAStackTrace() {
+        UncheckedExceptionalException e = new UncheckedExceptionalException(new IOException("Test Exception"));
+
+        assertEquals(0, e.getStackTrace().length);
+        assertThat(e.getCause().getStackTrace().length, greaterThan(0));
+    }
+
+    @Test
+    public void runtimeExceptionShouldPassThroughEveryInterface() {
+        IllegalArgumentException thrown = new IllegalArgumentException("Test Exception");
+        ExceptionalFunction<String, String> f = x -> { throw thrown; };
+        ExceptionalPredicate<String> p = x -> { throw thrown; };
+        ExceptionalConsumer<String> c = x -> { throw thrown; };
+        ExceptionalBiConsumer<String, String> bc = (x, y) -> { throw thrown; };
+        ExceptionalSupplier<String> s = () -> { throw thrown; };
+        ExceptionalRunnable r = () -> { throw thrown; };
+
+        for (Runnable call : Arrays.<Runnable>asList(() -> f.apply("x"), () -> p.test("x"), () -> c.accept("x"),
+                () -> bc.accept("x", "y"), s::get, r)) {
+            try {
+                call.run();
+                fail("Expected call to throw");
+            }
+            catch (IllegalArgumentException e) {
+                assertSame(thrown, e);
+            }
+        }
+    }
+
+    @Test
+    public void checkedExceptionShouldBeWrappedByEveryInterface() {
+        IOException thrown = new IOException("Test Exception");
+        ExceptionalFunction<String, String> f = x -> { throw thrown; };
+        ExceptionalPredicate<String> p = x -> { throw thrown; };
+        ExceptionalConsumer<String> c = x -> { throw thrown; };
+        ExceptionalBiConsumer<String, String> bc = (x, y) -> { throw thrown; };
+        ExceptionalSupplier<String> s = () -> { throw thrown; };
+        ExceptionalRunnable r = () -> { throw thrown; };
+
+        for (Runnable call : Arrays.<Runnable>asList(() -> f.apply("x"), () -> p.test("x"), () -> c.accept("x"),
+                () -> bc.accept("x", "y"), s::get, r)) {
+            try {
+                call.run();
+                fail("Expected call to throw");
+            }
+            catch (UncheckedExceptionalException e) {
+                assertSame(thrown, e.getCause());
+            }
+        }
+    }
+
+    @Test
+    public void sneakyShouldRethrowTheCheckedExceptionUnwrapped() {
+        IOException thrown = new IOException("Test Exception");
+        ExceptionalFunction<String, String> f = x -> { throw thrown; };
+        ExceptionalPredicate<String> p = x -> { throw thrown; };
+        ExceptionalConsumer<String> c = x -> { throw thrown; };
+        ExceptionalBiConsumer<String, String> bc = (x, y) -> { throw thrown; };
+        ExceptionalSupplier<String> s = () -> { throw thrown; };
+        ExceptionalRunnable r = () -> { throw thrown; };
+
+        for (Runnable call : Arrays.<Runnable>asList(() -> f.sneaky().apply("x"), () -> p.sneaky().test("x"),
+                () -> c.sneaky().accept("x"), () -> bc.sneaky().accept("x", "y"), s.sneaky()::get, r.sneaky())) {
+            try {
+                call.run();
+                fail("Expected call to throw");
+            }
+            catch (Exception e) {
+                assertSame(thrown, e);
+            }
+        }
+    }
+
+    @Test
+    public void sneakyShouldPassThroughResults() {
+        ExceptionalFunction<String, Integer> f = String::length;
+
+        assertThat(Functional.eMap(Arrays.asList("Alpha", "Beta"), f.sneaky()), is(Arrays.asList(5, 4)));
+    }
+
+    @Test
+    public void eMapShouldRecastUncheckedFailures() {
+        try {
+            Functional.eMap(Arrays.asList("Alpha"), ExceptionalTest::failUnchecked);
+            fail("Expected eMap to throw");
+        }
+        catch (IllegalArgumentException e) {
+            assertEquals("Test Exception", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.plexq.functional;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+import static com.plexq.functional.Functional.*;
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+
+public class FoldTest {
+    private final List<String> words = Arrays.asList("Alpha", "Beta", "Gamma");
+
+    @Test
+    public void foldLeftShouldCombineInOrder() {
+        assertEquals("-AlphaBetaGamma", foldLeft(words, "-", (acc, x) -> acc + x));
+        assertEquals("-AlphaBetaGamma", foldLeft(new LinkedList<>(words), "-", (acc, x) -> acc + x));
+    }
+
+    @Test
+    public void foldLeftOfEmptyListShouldYieldZero() {
+        assertEquals(Integer.valueOf(7), foldLeft(Collections.<String>emptyList(), 7, (acc, x) -> acc + x.length()));
+    }
+
+    @Test
+    public void eFoldLeftShouldRecastException() {
+        try {
+            eFoldLeft(words, 0, (acc, x) -> {
+                if (x.startsWith("G")) {
+                    throw new IOException("Failed on " + x);
+                }
+                return acc + x.length();
+            });
+            fail("Expected the fold to fail");
+        }
+        catch (UncheckedExceptionalException e) {
+            assertThat(e.getCause(), instanceOf(IOException.class));
+        }
+    }
+
+    @Test
+    public void scanLeftShouldYieldEveryIntermediateResult() {
+        assertThat(scanLeft(Arrays.asList(1, 2, 3), 0, (acc, x) -> acc + x), is(Arrays.asList(0, 1, 3, 6)));
+        assertThat(scanLeft(Collections.<Integer>emptyList(), 0, (acc, x) -> acc + x), is(Arrays.asList(0)));
+    }
+
+    @Test
+    public void primitiveFoldsShouldMatchFoldLeft() {
+        List<String> linked = new LinkedList<>(words);
+
+        assertEquals(14, foldInt(words, 0, (acc, x) -> acc + x.length()));
+        assertEquals(14, foldInt(linked, 0, (acc, x) -> acc + x.length()));
+        assertEquals(100L, foldLong(words, 1L, (acc, x) -> acc * x.length()));
+        assertEquals(100L, foldLong(linked, 1L, (acc, x) -> acc * x.length()));
+        assertEquals(14.0, foldDouble(words, 0.0, (acc, x) -> acc + x.length()), 0);
+        assertEquals(14.0, foldDouble(linked, 0.0, (acc, x) -> acc + x.length()), 0);
+    }
+
+    /**
+     * Adds up ones, apart from -1, which fails slowly once a -2 has failed.
+     */
+    private static ExceptionalBiFunction<Integer, Integer, Integer> failingSum() {
+        CountDownLatch laterFailed = new CountDownLatch(1);
+        return (acc, x) -> {
+            if (x == -1) {
+                laterFailed.await(5, TimeUnit.SECONDS);
+                throw new IOException("Failed on -1");
+            }
+            if (x == -2) {
+                laterFailed.countDown();
+                throw new IOException("Failed on -2");
+            }
+            return acc + x;
+        };
+    }
+
+    @Test(timeout = 10000)
+    public void aSneakyFailureInParReduceShouldComeFromTheLowestFailingIndex() {
+        List<Integer> v = new ArrayList<>(Collections.nCopies(20000, 1));
+        v.set(1000, -1);
+        v.set(15000, -2);
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            try {
+                parReduce(pool, v, 0, failingSum().sneaky()::apply);
+                fail("Expected parReduce to fail");
+            }
+            catch (Exception e) {
+                assertThat(e, instanceOf(IOException.class));
+                assertEquals("Failed on -1", e.getMessage());
+            }
+            try {
+                parEReduce(pool, v, 0, failingSum().sneaky());
+                fail("Expected parEReduce to fail");
+            }
+            catch (Exception e) {
+                assertThat(e, instanceOf(IOException.class));
+                assertEquals("Failed on -1", e.getMessage());
+            }
+        }
+        finally {
+            pool.shutdownNow();
+        }
+    }
+}
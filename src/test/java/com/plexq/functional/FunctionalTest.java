@@ -5,10 +5,12 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.LinkedList;
 import java.util.List;
 import java.util.Optional;
 import static java.util.function.Function.*;
 
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -75,6 +77,22 @@ public class FunctionalTest {
         assertThat(r, is(Arrays.asList()));
     }
 
+    @Test
+    public void mapWithLinkedListShouldYieldTheSameAsArrayList() {
+        List<Integer> r = Functional.map(new LinkedList<>(twoList), String::length);
+
+        assertThat(r, is(Functional.map(new ArrayList<>(twoList), String::length)));
+    }
+
+    @Test
+    public void mapShouldYieldAMutableList() {
+        List<Integer> r = Functional.map(twoList, String::length);
+
+        r.add(3);
+
+        assertThat(r, is(Arrays.asList(5, 4, 3)));
+    }
+
     @Test
     public void forEachWithOneListShouldYieldAResult() {
         List<Integer> r = new ArrayList<>();
@@ -187,6 +205,15 @@ public class FunctionalTest {
         assertThat("A flattened list with the last element empty should reduce", r, is(Arrays.asList("Alpha")));
     }
 
+    @Test
+    public void flattenWithLinkedListShouldYieldReducedList() {
+        List<Optional<String>> v = new LinkedList<>(Arrays.asList(Optional.of("Alpha"), Optional.empty()));
+
+        List<String> r = Functional.flatten(v);
+
+        assertThat("A flattened linked list with the last element empty should reduce", r, is(Arrays.asList("Alpha")));
+    }
+
     @Test
     public void flattenWithEmptyOptionalsShouldYieldEmptyList() {
         List<Optional<String>> v  = Arrays.asList(Optional.empty(), Optional.empty());
@@ -215,6 +242,27 @@ public class FunctionalTest {
         assertThat(r, is(Arrays.asList("Beta")));
     }
 
+    @Test
+    public void filterWithLinkedListShouldLocateElements() {
+        List<String> r = Functional.filter(new LinkedList<>(twoList), x -> x.contains("e"));
+
+        assertThat(r, is(Arrays.asList("Beta")));
+    }
+
+    @Test
+    public void filterOfLargeListShouldKeepOrder() {
+        List<Integer> v = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            v.add(i);
+        }
+
+        List<Integer> r = Functional.filter(v, x -> x % 2 == 1);
+
+        assertEquals(2500, r.size());
+        assertEquals(Integer.valueOf(1), r.get(0));
+        assertEquals(Integer.valueOf(4999), r.get(2499));
+    }
+
     //
     // Exceptionals
     //
@@ -315,6 +363,31 @@ public class FunctionalTest {
         Functional.exceptionalR(() -> new File("/notarealpathhere/foot.txt").createNewFile()).run();
     }
 
+    @Test
+    public void mapMultiShouldEmitAnyNumberOfResultsInOrder() {
+        List<Integer> v = new LinkedList<>(Arrays.asList(0, 1, 2, 3));
+
+        List<Integer> r = mapMulti(v, (Integer x, Consumer<Integer> out) -> {
+            for (int i = 0; i < x; i++) {
+                out.accept(x);
+            }
+        });
+
+        assertThat(r, is(Arrays.asList(1, 2, 2, 3, 3, 3)));
+    }
+
+    @Test(expected = RuntimeException.class)
+    public void eMapMultiShouldRecastException() {
+        eMapMulti(oneList, (String x, Consumer<Boolean> out) -> out.accept(new File("/notarealpathhere/" + x).createNewFile()));
+    }
+
+    @Test
+    public void eFlatMapShouldConcatenateResultsInOrder() {
+        List<String> r = eFlatMap(new LinkedList<>(Arrays.asList("ab", "", "c")), x -> new LinkedList<>(Arrays.asList(x.split(""))));
+
+        assertThat(r, is(Arrays.asList("a", "b", "", "c")));
+    }
+
     @Test
     public void usingFunctionalCompositionShouldWork() {
         /*
@@ -0,0 +1,158 @@
+package com.plexq.functional;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import com.plexq.functional.Tuple.Tuple2;
+
+import static com.plexq.functional.Functional.*;
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+
+public class IteratorsTest {
+    @Rule
+    public final TemporaryFolder folder = new TemporaryFolder();
+
+    private static Set<String> threeSet = new LinkedHashSet<>(Arrays.asList("Alpha", "Beta", "Gamma"));
+
+    private static <A> List<A> toList(Iterable<A> v) {
+        List<A> r = new ArrayList<>();
+        v.forEach(r::add);
+        return r;
+    }
+
+    @Test
+    public void mapOfIterableShouldBeLazy() {
+        AtomicInteger calls = new AtomicInteger();
+
+        Iterable<Integer> r = Functional.map(threeSet, x -> { calls.incrementAndGet(); return x.length(); });
+
+        assertEquals(0, calls.get());
+        assertThat(toList(r), is(Arrays.asList(5, 4, 5)));
+        assertEquals(3, calls.get());
+    }
+
+    @Test
+    public void filterOfIterableShouldSkipRejectedElements() {
+        assertThat(toList(Functional.filter(threeSet, x -> x.contains("e"))), is(Arrays.asList("Beta")));
+    }
+
+    @Test
+    public void flatMapOfIteratorShouldDropEmptyResults() {
+        Iterator<String> r = Functional.flatMap(threeSet.iterator(),
+                x -> x.startsWith("B") ? Optional.<String>empty() : Optional.of(x));
+
+        assertEquals("Alpha", r.next());
+        assertTrue(r.hasNext());
+        assertTrue(r.hasNext());
+        assertEquals("Gamma", r.next());
+        assertFalse(r.hasNext());
+    }
+
+    @Test
+    public void zipWithIndexOfIterableShouldIndexInOrder() {
+        List<Tuple2<Integer, String>> r = toList(Functional.zipWithIndex((Iterable<String>) threeSet));
+
+        assertThat(r, is(Arrays.asList(Tuple.tuple(0, "Alpha"), Tuple.tuple(1, "Beta"), Tuple.tuple(2, "Gamma"))));
+    }
+
+    @Test(expected = UncheckedExceptionalException.class)
+    public void eMapOfIterableShouldRecastOnIteration() {
+        Iterable<Integer> r = Functional.eMap(threeSet, x -> { throw new IOException("Test Exception"); });
+
+        r.iterator().next();
+    }
+
+    @Test
+    public void spliteratorOverloadsShouldSupportParallelStreams() {
+        List<Integer> v = IntStream.range(0, 10000).boxed().collect(Collectors.toList());
+
+        Spliterator<Integer> s = Functional.filter(Functional.map(v.spliterator(), x -> x * 2), x -> x % 3 == 0);
+        List<Integer> r = StreamSupport.stream(s, true).collect(Collectors.toList());
+
+        assertThat(r, is(v.stream().map(x -> x * 2).filter(x -> x % 3 == 0).collect(Collectors.toList())));
+    }
+
+    @Test
+    public void zipWithIndexOfSpliteratorShouldIndexCorrectlyWhenSplit() {
+        List<Integer> v = IntStream.range(0, 10000).boxed().collect(Collectors.toList());
+
+        Set<Integer> mismatches = new HashSet<>();
+        StreamSupport.stream(Functional.zipWithIndex(v.spliterator()), true).forEach(t -> {
+            if (!t._1.equals(t._2)) {
+                synchronized (mismatches) {
+                    mismatches.add(t._1);
+                }
+            }
+        });
+
+        assertTrue(mismatches.isEmpty());
+        assertNotNull(Functional.zipWithIndex(v.spliterator()).trySplit());
+    }
+
+    private Path write(String content) throws IOException {
+        Path p = folder.newFile().toPath();
+        Files.write(p, content.getBytes(StandardCharsets.UTF_8));
+        return p;
+    }
+
+    @Test
+    public void lineSourceShouldReadEveryLine() throws IOException {
+        try (LineSource lines = LineSource.open(write("Alpha\nBeta\r\n\nGamma"))) {
+            assertThat(toList(lines), is(Arrays.asList("Alpha", "Beta", "", "Gamma")));
+            assertThat("A LineSource should be iterable more than once", toList(lines),
+                    is(Arrays.asList("Alpha", "Beta", "", "Gamma")));
+        }
+    }
+
+    @Test
+    public void lineSourceShouldNotYieldATrailingEmptyLine() throws IOException {
+        try (LineSource lines = LineSource.open(write("Alpha\nBeta\n"))) {
+            assertThat(toList(lines), is(Arrays.asList("Alpha", "Beta")));
+        }
+    }
+
+    @Test
+    public void lineSourceOfEmptyFileShouldYieldNothing() throws IOException {
+        try (LineSource lines = LineSource.open(write(""))) {
+            assertFalse(lines.iterator().hasNext());
+        }
+    }
+
+    @Test
+    public void lineSourceShouldReadRecordsSpanningWindows() throws IOException {
+        Path p = write("Alpha\nΒήτα with multibyte characters\nGamma\n");
+        try (LineSource lines = new LineSource(FileChannel.open(p, StandardOpenOption.READ), StandardCharsets.UTF_8,
+                (byte) '\n', 4)) {
+            assertThat(toList(Functional.map(lines, String::length)), is(Arrays.asList(5, 30, 5)));
+        }
+    }
+
+    @Test
+    public void lineSourceShouldSplitOnACustomDelimiter() throws IOException {
+        try (LineSource records = LineSource.open(write("a|b||c"), StandardCharsets.UTF_8, (byte) '|')) {
+            assertThat(toList(records), is(Arrays.asList("a", "b", "", "c")));
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package com.plexq.functional;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import static com.plexq.functional.Functional.*;
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+
+public class LazySupplierTest {
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @Test
+    public void lazyShouldLoadOnceOnFirstUse() {
+        LazySupplier<Integer> s = lazy(loads::incrementAndGet);
+
+        assertFalse(s.isInitialized());
+        assertEquals(Integer.valueOf(1), s.get());
+        assertEquals(Integer.valueOf(1), s.get());
+        assertTrue(s.isInitialized());
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    public void lazyShouldCacheNull() {
+        LazySupplier<String> s = lazy(() -> {
+            loads.incrementAndGet();
+            return null;
+        });
+
+        assertNull(s.get());
+        assertNull(s.get());
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    public void lazyShouldRetryAfterAFailedLoad() {
+        LazySupplier<Integer> s = lazy(() -> {
+            if (loads.incrementAndGet() == 1) {
+                throw new IOException("Test Exception");
+            }
+            return loads.get();
+        });
+
+        try {
+            s.get();
+            fail("Expected the first load to throw");
+        }
+        catch (UncheckedExceptionalException e) {
+            assertThat(e.getCause(), instanceOf(IOException.class));
+        }
+        assertEquals(Integer.valueOf(2), s.get());
+        assertEquals(Integer.valueOf(2), s.get());
+    }
+
+    @Test
+    public void lazyShouldLoadOnceUnderConcurrentCallers() throws Exception {
+        LazySupplier<Integer> s = lazy(() -> {
+            Thread.sleep(20);
+            return loads.incrementAndGet();
+        });
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Integer>> futures = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                futures.add(executor.submit(s::get));
+            }
+            for (Future<Integer> future : futures) {
+                assertEquals(Integer.valueOf(1), future.get());
+            }
+        }
+        finally {
+            executor.shutdownNow();
+        }
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    public void refreshingShouldServeStaleValueWhileRefreshing() throws Exception {
+        CountDownLatch refreshed = new CountDownLatch(1);
+        RefreshingSupplier<Integer> s = refreshing(loads::incrementAndGet, 10, TimeUnit.MILLISECONDS, r -> {
+            new Thread(() -> {
+                r.run();
+                refreshed.countDown();
+            }).start();
+        });
+
+        assertEquals(Integer.valueOf(1), s.get());
+        Thread.sleep(20);
+        assertEquals("A stale value should be served while refreshing", Integer.valueOf(1), s.get());
+        assertTrue(refreshed.await(5, TimeUnit.SECONDS));
+        assertEquals(Integer.valueOf(2), s.get());
+    }
+
+    @Test
+    public void refreshingShouldStartOnlyOneRefreshAtATime() throws Exception {
+        List<Runnable> submitted = new ArrayList<>();
+        RefreshingSupplier<Integer> s = refreshing(loads::incrementAndGet, 1, TimeUnit.MILLISECONDS, submitted::add);
+
+        s.get();
+        Thread.sleep(5);
+        s.get();
+        s.get();
+        s.get();
+
+        assertEquals(1, submitted.size());
+        submitted.get(0).run();
+        assertEquals(Integer.valueOf(2), s.get());
+    }
+
+    @Test
+    public void failedRefreshShouldKeepStaleValueAndRetry() throws Exception {
+        List<Runnable> submitted = new ArrayList<>();
+        RefreshingSupplier<Integer> s = refreshing(() -> {
+            if (loads.incrementAndGet() == 2) {
+                throw new IOException("Test Exception");
+            }
+            return loads.get();
+        }, 1, TimeUnit.MILLISECONDS, submitted::add);
+
+        assertEquals(Integer.valueOf(1), s.get());
+        Thread.sleep(5);
+        s.get();
+        submitted.get(0).run();
+
+        assertTrue(s.getLastFailure().isPresent());
+        assertEquals(Integer.valueOf(1), s.get());
+        assertEquals(2, submitted.size());
+        submitted.get(1).run();
+        assertEquals(Integer.valueOf(3), s.get());
+        assertFalse(s.getLastFailure().isPresent());
+    }
+}
@@ -0,0 +1,196 @@
+package com.plexq.functional;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import static com.plexq.functional.Functional.*;
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+
+public class MemoizedFunctionTest {
+    private final AtomicInteger calls = new AtomicInteger();
+
+    private Integer length(String x) throws Exception {
+        calls.incrementAndGet();
+        if (x.isEmpty()) {
+            throw new IOException("Empty input");
+        }
+        return x.length();
+    }
+
+    @Test
+    public void repeatedCallsShouldHitTheCache() {
+        MemoizedFunction<String, Integer> f = memoize(this::length);
+
+        List<Integer> r = eMap(Arrays.asList("Alpha", "Beta", "Alpha", "Alpha"), f);
+
+        assertThat(r, is(Arrays.asList(5, 4, 5, 5)));
+        assertEquals(2, calls.get());
+        assertEquals(2, f.hitCount());
+        assertEquals(2, f.missCount());
+    }
+
+    @Test
+    public void lruShouldEvictTheLeastRecentlyUsedEntry() throws Exception {
+        MemoizedFunction<String, Integer> f = memoize(this::length, CacheSpec.maximumSize(2));
+
+        f.f("Alpha");
+        f.f("Beta");
+        f.f("Alpha");
+        f.f("Gamma");
+        calls.set(0);
+        f.f("Alpha");
+        f.f("Beta");
+
+        assertEquals("Beta should have been evicted, not Alpha", 1, calls.get());
+        assertThat(f.evictionCount(), greaterThanOrEqualTo(1L));
+        assertThat(f.size(), lessThanOrEqualTo(2L));
+    }
+
+    @Test
+    public void lfuShouldEvictTheLeastFrequentlyUsedEntry() throws Exception {
+        MemoizedFunction<String, Integer> f = memoize(this::length, CacheSpec.maximumSize(2).lfu());
+
+        f.f("Alpha");
+        f.f("Alpha");
+        f.f("Beta");
+        f.f("Gamma");
+        calls.set(0);
+        f.f("Alpha");
+
+        assertEquals("Alpha should have been kept as the most frequently used", 0, calls.get());
+        assertEquals(1, f.evictionCount());
+    }
+
+    @Test
+    public void entriesShouldExpireAfterWrite() throws Exception {
+        MemoizedFunction<String, Integer> f = memoize(this::length,
+                CacheSpec.unbounded().expireAfterWrite(20, TimeUnit.MILLISECONDS));
+
+        f.f("Alpha");
+        Thread.sleep(40);
+        f.f("Alpha");
+
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    public void failuresShouldNotBeCachedByDefault() {
+        MemoizedFunction<String, Integer> f = memoize(this::length);
+
+        for (int i = 0; i < 2; i++) {
+            try {
+                f.f("");
+                fail("Expected f to throw");
+            }
+            catch (Exception e) {
+                assertThat(e, instanceOf(IOException.class));
+            }
+        }
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    public void failuresShouldBeCachedWhenRequested() {
+        MemoizedFunction<String, Integer> f = memoize(this::length, CacheSpec.unbounded().cacheFailures());
+
+        for (int i = 0; i < 2; i++) {
+            try {
+                f.f("");
+                fail("Expected f to throw");
+            }
+            catch (Exception e) {
+                assertThat(e, instanceOf(IOException.class));
+            }
+        }
+        assertEquals(1, calls.get());
+    }
+
+    @Test(timeout = 5000)
+    public void anErrorFromFShouldNotHangTheNextCaller() throws Exception {
+        MemoizedFunction<String, Integer> f = memoize(x -> {
+            if (calls.incrementAndGet() == 1) {
+                throw new AssertionError("First call fails");
+            }
+            return x.length();
+        });
+
+        try {
+            f.f("Alpha");
+            fail("Expected f to throw");
+        }
+        catch (AssertionError e) {
+            assertEquals("First call fails", e.getMessage());
+        }
+
+        assertEquals(Integer.valueOf(5), f.f("Alpha"));
+        assertEquals(2, calls.get());
+    }
+
+    @Test(timeout = 5000)
+    public void aCachedErrorShouldBeRethrownToLaterCallers() throws Exception {
+        MemoizedFunction<String, Integer> f = memoize(x -> {
+            calls.incrementAndGet();
+            throw new AssertionError("Always fails");
+        }, CacheSpec.unbounded().cacheFailures());
+
+        for (int i = 0; i < 2; i++) {
+            try {
+                f.f("Alpha");
+                fail("Expected f to throw");
+            }
+            catch (AssertionError e) {
+                assertEquals("Always fails", e.getMessage());
+            }
+        }
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    public void concurrentCallersForOneKeyShouldComputeItOnce() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        MemoizedFunction<String, Integer> f = memoize(x -> {
+            calls.incrementAndGet();
+            release.await();
+            return x.length();
+        });
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Integer>> futures = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                futures.add(executor.submit(() -> f.apply("Alpha")));
+            }
+            Thread.sleep(50);
+            release.countDown();
+            for (Future<Integer> future : futures) {
+                assertEquals(Integer.valueOf(5), future.get());
+            }
+        }
+        finally {
+            executor.shutdownNow();
+        }
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    public void boundedCacheShouldStayWithinItsSizeUnderManyKeys() throws Exception {
+        MemoizedFunction<Integer, Integer> f = memoize(x -> x * 2, CacheSpec.maximumSize(1024));
+
+        for (int i = 0; i < 10000; i++) {
+            assertEquals(Integer.valueOf(i * 2), f.f(i));
+        }
+
+        assertThat(f.size(), lessThanOrEqualTo(1024L));
+        assertEquals(10000 - f.size(), f.evictionCount());
+    }
+}
@@ -0,0 +1,215 @@
+package com.plexq.functional;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static com.plexq.functional.Functional.*;
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+
+public class ParallelTest {
+    private ForkJoinPool pool;
+    private List<Integer> large;
+
+    @Before
+    public void setUp() {
+        pool = new ForkJoinPool(4);
+        large = new ArrayList<>();
+        for (int i = 0; i < 20000; i++) {
+            large.add(i);
+        }
+    }
+
+    @After
+    public void tearDown() {
+        pool.shutdownNow();
+    }
+
+    @Test
+    public void parMapShouldMatchMapAndKeepOrder() {
+        assertThat(parMap(pool, large, x -> x * 2), is(Functional.map(large, x -> x * 2)));
+    }
+
+    @Test
+    public void parMapOfLinkedListShouldMatchMap() {
+        List<Integer> linked = new LinkedList<>(large);
+
+        assertThat(parMap(pool, linked, x -> x + 1), is(Functional.map(large, x -> x + 1)));
+    }
+
+    @Test
+    public void parMapBelowThresholdShouldYieldMappedList() {
+        assertThat(parMap(Arrays.asList("Alpha", "Beta"), String::length), is(Arrays.asList(5, 4)));
+    }
+
+    @Test
+    public void parFilterShouldMatchFilterAndKeepOrder() {
+        assertThat(parFilter(pool, large, x -> x % 3 == 0), is(Functional.filter(large, x -> x % 3 == 0)));
+    }
+
+    @Test
+    public void parFlatMapShouldDropEmptyResults() {
+        List<Integer> r = parFlatMap(pool, large, x -> x % 2 == 0 ? Optional.of(x) : Optional.<Integer>empty());
+
+        assertThat(r, is(Functional.filter(large, x -> x % 2 == 0)));
+    }
+
+    @Test
+    public void parEMapShouldRethrowTheLowestFailingIndex() {
+        for (int round = 0; round < 20; round++) {
+            try {
+                parEMap(pool, large, x -> {
+                    if (x % 5000 == 4999) {
+                        throw new IOException("Failed at " + x);
+                    }
+                    return x;
+                });
+                fail("Expected parEMap to throw");
+            }
+            catch (RuntimeException e) {
+                assertThat(e.getCause(), instanceOf(IOException.class));
+                assertEquals("Failed at 4999", e.getCause().getMessage());
+            }
+        }
+    }
+
+    @Test(timeout = 10000)
+    public void aSneakyFailureAtALowerIndexShouldWinEvenWhenItIsSlower() {
+        CountDownLatch laterFailed = new CountDownLatch(1);
+        ExceptionalFunction<Integer, Integer> f = x -> {
+            if (x == 1000) {
+                laterFailed.await(5, TimeUnit.SECONDS);
+                throw new IOException("Failed at " + x);
+            }
+            if (x == 15000) {
+                laterFailed.countDown();
+                throw new IOException("Failed at " + x);
+            }
+            return x;
+        };
+
+        try {
+            parMap(pool, large, f.sneaky());
+            fail("Expected parMap to throw");
+        }
+        catch (Exception e) {
+            assertThat(e, instanceOf(IOException.class));
+            assertEquals("Failed at 1000", e.getMessage());
+        }
+    }
+
+    @Test
+    public void failureShouldAbandonLaterElements() {
+        AtomicInteger calls = new AtomicInteger();
+
+        try {
+            parMap(pool, large, x -> {
+                calls.incrementAndGet();
+                if (x == 0) {
+                    throw new IllegalStateException("First element");
+                }
+                sleep();
+                return x;
+            });
+            fail("Expected parMap to throw");
+        }
+        catch (IllegalStateException e) {
+            assertEquals("First element", e.getMessage());
+        }
+        assertThat(calls.get(), lessThan(large.size()));
+    }
+
+    private static void sleep() {
+        try {
+            Thread.sleep(1);
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Test
+    public void emptyInputsWithZeroThresholdShouldYieldEmptyResults() {
+        int previous = getParallelThreshold();
+        List<Integer> empty = Collections.emptyList();
+        try {
+            setParallelThreshold(0);
+            assertTrue(parMap(pool, empty, x -> x).isEmpty());
+            assertTrue(parFilter(pool, empty, x -> true).isEmpty());
+            assertTrue(parFlatMap(pool, empty, Optional::of).isEmpty());
+            assertTrue(parEMap(pool, new LinkedList<>(empty), x -> x).isEmpty());
+            assertEquals(Integer.valueOf(7), parReduce(pool, empty, 7, Integer::sum));
+            assertEquals(Integer.valueOf(7), parEReduce(pool, empty, 7, (x, y) -> x + y));
+        }
+        finally {
+            setParallelThreshold(previous);
+        }
+    }
+
+    @Test
+    public void parallelThresholdShouldBeSettable() {
+        int previous = getParallelThreshold();
+        try {
+            setParallelThreshold(0);
+            assertThat(parMap(pool, Arrays.asList("Alpha", "Beta"), String::length), is(Arrays.asList(5, 4)));
+        }
+        finally {
+            setParallelThreshold(previous);
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void negativeParallelThresholdShouldBeRejected() {
+        setParallelThreshold(-1);
+    }
+
+    @Test
+    public void parReduceShouldMatchFoldLeft() {
+        List<Long> longs = map(large, Integer::longValue);
+
+        assertEquals(foldLeft(longs, 0L, Long::sum), parReduce(pool, longs, 0L, Long::sum));
+    }
+
+    @Test
+    public void parReduceShouldCombineInOrder() {
+        List<String> strings = map(large, x -> Integer.toString(x % 10));
+
+        assertEquals(foldLeft(strings, "", String::concat), parReduce(pool, strings, "", String::concat));
+        assertEquals(foldLeft(strings, "", String::concat),
+                parReduce(pool, new LinkedList<>(strings), "", String::concat));
+    }
+
+    @Test
+    public void parReduceBelowThresholdShouldFold() {
+        assertEquals(Integer.valueOf(6), parReduce(Arrays.asList(1, 2, 3), 0, Integer::sum));
+    }
+
+    @Test
+    public void parEReduceShouldRethrowTheLowestFailingIndex() {
+        try {
+            parEReduce(pool, large, 0, (x, y) -> {
+                if (y == 5000 || y == 15000) {
+                    throw new IOException("Failed on " + y);
+                }
+                return x + y;
+            });
+            fail("Expected parEReduce to fail");
+        }
+        catch (UncheckedExceptionalException e) {
+            assertEquals("Failed on 5000", e.getCause().getMessage());
+        }
+    }
+}
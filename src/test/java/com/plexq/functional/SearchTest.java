@@ -0,0 +1,227 @@
+package com.plexq.functional;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import static com.plexq.functional.Functional.*;
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+
+public class SearchTest extends ConcurrentFixture {
+    /**
+     * Wait for a call on another element, failing that call rather than hanging the test if it never comes.
+     */
+    private static void awaitOther(CountDownLatch latch) throws InterruptedException {
+        if (!latch.await(5, TimeUnit.SECONDS)) {
+            throw new IllegalStateException("The other call never came");
+        }
+    }
+
+    @Test
+    public void parFindShouldFindAMatch() {
+        Optional<Integer> r = parFind(hundred, 8, executor, x -> x % 10 == 7);
+
+        assertThat(r.get() % 10, is(7));
+    }
+
+    @Test
+    public void parFindWithoutMatchShouldBeEmpty() {
+        assertFalse(parFind(hundred, 8, executor, x -> x > 100).isPresent());
+        assertFalse(parFind(Collections.<Integer>emptyList(), 8, executor, x -> true).isPresent());
+    }
+
+    @Test
+    public void parFindFirstShouldFindTheLowestMatchEvenWhenALaterOneIsQuicker() {
+        // Element 10 matches only once 50 has
+        CountDownLatch laterMatched = new CountDownLatch(1);
+        Optional<Integer> r = parEFindFirst(hundred, 16, executor, x -> {
+            if (x == 10) {
+                awaitOther(laterMatched);
+                return true;
+            }
+            if (x == 50) {
+                laterMatched.countDown();
+            }
+            return x >= 50;
+        });
+
+        assertThat(r, is(Optional.of(10)));
+    }
+
+    @Test
+    public void parFindFirstShouldRethrowAFailureBeforeTheFirstMatch() {
+        // Element 5 fails only once 20 has matched
+        CountDownLatch laterMatched = new CountDownLatch(1);
+        try {
+            parEFindFirst(hundred, 16, executor, x -> {
+                if (x == 5) {
+                    awaitOther(laterMatched);
+                    throw new IOException("Failed on " + x);
+                }
+                if (x == 20) {
+                    laterMatched.countDown();
+                }
+                return x >= 20;
+            });
+            fail("Expected the failure at index 5");
+        }
+        catch (RuntimeException e) {
+            assertThat(e.getCause(), instanceOf(IOException.class));
+            assertThat(e.getCause().getMessage(), is("Failed on 5"));
+        }
+    }
+
+    @Test
+    public void parFindFirstShouldIgnoreAFailureAfterTheFirstMatch() {
+        Optional<Integer> r = parEFindFirst(hundred, 16, executor, x -> {
+            if (x == 60) {
+                throw new IOException("Failed on " + x);
+            }
+            return x == 3;
+        });
+
+        assertThat(r, is(Optional.of(3)));
+    }
+
+    @Test(timeout = 10000)
+    public void parFindShouldCancelOutstandingCallsOnMatch() throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(4);
+        CountDownLatch never = new CountDownLatch(1);
+        AtomicInteger interrupted = new AtomicInteger();
+
+        // The four calls before the match block until they are interrupted, so the test ends only if they are
+        Optional<Integer> r = parEFind(hundred, 5, executor, x -> {
+            if (x == 4) {
+                started.await();
+                return true;
+            }
+            started.countDown();
+            try {
+                never.await();
+            }
+            catch (InterruptedException e) {
+                interrupted.incrementAndGet();
+                throw e;
+            }
+            return false;
+        });
+
+        assertThat(r, is(Optional.of(4)));
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+        assertThat(interrupted.get(), is(4));
+    }
+
+    @Test
+    public void parFindShouldNeverExceedMaxInFlight() {
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger peak = new AtomicInteger();
+        CountDownLatch full = new CountDownLatch(3);
+
+        parEFindFirst(hundred, 3, executor, x -> {
+            int now = inFlight.incrementAndGet();
+            peak.accumulateAndGet(now, Math::max);
+            if (x < 3) {
+                // Hold the first three calls until all of them are in flight together
+                full.countDown();
+                awaitOther(full);
+            }
+            inFlight.decrementAndGet();
+            return x == 60;
+        });
+
+        assertThat(peak.get(), is(3));
+    }
+
+    @Test
+    public void parFindFirstShouldStopSubmittingAfterAMatch() {
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch matched = new CountDownLatch(1);
+
+        parEFindFirst(hundred, 2, executor, x -> {
+            calls.incrementAndGet();
+            if (x == 1) {
+                matched.countDown();
+                return true;
+            }
+            // Hold each permit until the match has run, so a slow start for it cannot let the scan race ahead
+            awaitOther(matched);
+            return false;
+        });
+
+        assertThat(calls.get(), lessThan(10));
+    }
+
+    @Test
+    public void aSneakyCheckedExceptionShouldBeRethrown() {
+        ExceptionalPredicate<Integer> p = x -> {
+            if (x == 50) {
+                throw new IOException("Failed on " + x);
+            }
+            return false;
+        };
+
+        try {
+            parEFind(hundred, 4, executor, p.sneaky());
+            fail("Expected parEFind to throw");
+        }
+        catch (Exception e) {
+            assertThat(e, instanceOf(IOException.class));
+        }
+        try {
+            parFindAll(hundred, 4, executor, p.sneaky());
+            fail("Expected parFindAll to throw");
+        }
+        catch (Exception e) {
+            assertThat(e, instanceOf(IOException.class));
+        }
+    }
+
+    @Test
+    public void parAnyMatchAndParAllMatchShouldAgreeWithStreams() {
+        assertTrue(parAnyMatch(hundred, 4, executor, x -> x == 99));
+        assertFalse(parAnyMatch(hundred, 4, executor, x -> x > 99));
+        assertTrue(parAllMatch(hundred, 4, executor, x -> x < 100));
+        assertFalse(parAllMatch(hundred, 4, executor, x -> x < 50));
+        assertTrue(parAllMatch(Collections.<Integer>emptyList(), 4, executor, x -> false));
+    }
+
+    @Test
+    public void parFindAllShouldKeepInputOrder() {
+        // In each run of four elements, a call finishes only after the next one has, so they finish out of order
+        CountDownLatch[] finished = new CountDownLatch[hundred.size()];
+        for (int i = 0; i < finished.length; i++) {
+            finished[i] = new CountDownLatch(1);
+        }
+        ExceptionalPredicate<Integer> p = x -> {
+            if (x % 4 != 3) {
+                awaitOther(finished[x + 1]);
+            }
+            finished[x].countDown();
+            return x % 25 == 0;
+        };
+
+        List<Integer> r = parFindAll(hundred, 8, executor, p);
+
+        assertThat(r, is(Arrays.asList(0, 25, 50, 75)));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void parFindShouldRejectNonPositiveMaxInFlight() {
+        parFind(hundred, 0, executor, x -> true);
+    }
+
+    @Test
+    public void parFindWithDefaultExecutorShouldFind() {
+        assertThat(parFindFirst(Arrays.asList("Alpha", "Beta", "Gamma"), 2, x -> x.startsWith("G")),
+                is(Optional.of("Gamma")));
+    }
+}
@@ -0,0 +1,181 @@
+package com.plexq.functional;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static com.plexq.functional.Functional.*;
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+
+public class TimeoutsTest {
+    private ExecutorService executor;
+
+    @Before
+    public void setUp() {
+        executor = Executors.newCachedThreadPool();
+    }
+
+    @After
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    private static Integer slowOn(Integer x, int slow) throws InterruptedException {
+        if (x == slow) {
+            Thread.sleep(10000);
+        }
+        return x * 2;
+    }
+
+    @Test
+    public void eMapWithinBudgetShouldMapAll() {
+        List<Integer> r = eMap(Arrays.asList(1, 2, 3), TimeoutSpec.perElement(5, TimeUnit.SECONDS), executor,
+                x -> x * 2);
+
+        assertThat(r, is(Arrays.asList(2, 4, 6)));
+    }
+
+    @Test
+    public void eMapShouldFailWithATimeoutWhenAnElementOverruns() {
+        try {
+            eMap(Arrays.asList(1, 2, 3), TimeoutSpec.perElement(50, TimeUnit.MILLISECONDS), executor,
+                    x -> slowOn(x, 2));
+            fail("Expected a timeout");
+        }
+        catch (UncheckedExceptionalException e) {
+            assertThat(e.getCause(), instanceOf(TimeoutException.class));
+            assertThat(e.getCause().getMessage(), containsString("Element 1"));
+        }
+    }
+
+    @Test
+    public void anInterruptedCallerShouldGetAnUncheckedExceptionalExceptionAndKeepItsInterrupt() {
+        Thread.currentThread().interrupt();
+        try {
+            eMap(Arrays.asList(1, 2, 3), TimeoutSpec.perElement(5, TimeUnit.SECONDS), executor, x -> slowOn(x, 1));
+            fail("Expected eMap to throw");
+        }
+        catch (UncheckedExceptionalException e) {
+            assertThat(e.getCause(), instanceOf(InterruptedException.class));
+            assertTrue(Thread.interrupted());
+        }
+    }
+
+    @Test
+    public void eMapShouldInterruptAnOverrunningCall() throws InterruptedException {
+        CountDownLatch interrupted = new CountDownLatch(1);
+
+        List<Integer> r = eMap(Arrays.asList(1, 2, 3),
+                TimeoutSpec.perElement(50, TimeUnit.MILLISECONDS).skipTimeouts(), executor, x -> {
+                    if (x == 2) {
+                        try {
+                            Thread.sleep(10000);
+                        }
+                        catch (InterruptedException e) {
+                            interrupted.countDown();
+                            throw e;
+                        }
+                    }
+                    return x;
+                });
+
+        assertThat(r, is(Arrays.asList(1, 3)));
+        assertTrue(interrupted.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void eMapShouldMoveOnFromACallThatIgnoresInterrupts() {
+        long start = System.nanoTime();
+
+        List<Integer> r = eMap(Arrays.asList(1, 2), TimeoutSpec.perElement(50, TimeUnit.MILLISECONDS).skipTimeouts(),
+                executor, x -> {
+                    if (x == 1) {
+                        long until = System.nanoTime() + TimeUnit.SECONDS.toNanos(2);
+                        while (System.nanoTime() < until) {
+                            Thread.yield();
+                        }
+                    }
+                    return x;
+                });
+
+        assertThat(r, is(Arrays.asList(2)));
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), lessThan(1500L));
+    }
+
+    @Test
+    public void deadlineShouldBoundTheWholeOperation() {
+        List<Integer> v = Arrays.asList(1, 2, 3, 4, 5, 6, 7, 8, 9, 10);
+
+        long start = System.nanoTime();
+        List<Integer> r = eMap(v, TimeoutSpec.deadline(100, TimeUnit.MILLISECONDS).skipTimeouts(), executor,
+                x -> slowOn(x, 3));
+
+        assertThat(r, is(Arrays.asList(2, 4)));
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), lessThan(1000L));
+    }
+
+    @Test
+    public void deadlineShouldFailWhenNotSkipping() {
+        try {
+            eMap(Arrays.asList(1, 2, 3), TimeoutSpec.perElement(1, TimeUnit.SECONDS)
+                    .withDeadline(50, TimeUnit.MILLISECONDS), executor, x -> slowOn(x, 1));
+            fail("Expected a timeout");
+        }
+        catch (UncheckedExceptionalException e) {
+            assertThat(e.getCause().getMessage(), containsString("Deadline"));
+        }
+    }
+
+    @Test
+    public void eMapShouldRethrowTheFunctionsOwnFailure() {
+        try {
+            eMap(Arrays.asList(1, 2), TimeoutSpec.perElement(1, TimeUnit.SECONDS), executor, x -> {
+                throw new IOException("Failed on " + x);
+            });
+            fail("Expected the function's failure");
+        }
+        catch (UncheckedExceptionalException e) {
+            assertThat(e.getCause(), instanceOf(IOException.class));
+        }
+    }
+
+    @Test
+    public void eFlatMapShouldSkipOverrunningElements() {
+        List<Integer> r = eFlatMap(Arrays.asList(1, 2, 3),
+                TimeoutSpec.perElement(50, TimeUnit.MILLISECONDS).skipTimeouts(), executor,
+                x -> Arrays.asList(slowOn(x, 2), x));
+
+        assertThat(r, is(Arrays.asList(2, 1, 6, 3)));
+    }
+
+    @Test
+    public void eFindShouldTreatSkippedTimeoutsAsNoMatch() {
+        Optional<Integer> r = eFind(Arrays.asList(1, 2, 3, 4),
+                TimeoutSpec.perElement(50, TimeUnit.MILLISECONDS).skipTimeouts(), executor,
+                x -> slowOn(x, 2) > 2);
+
+        assertThat(r, is(Optional.of(3)));
+    }
+
+    @Test
+    public void eFindWithDefaultExecutorShouldFindTheFirstMatch() {
+        assertThat(eFind(Arrays.asList("Alpha", "Beta", "Gamma"), TimeoutSpec.perElement(1, TimeUnit.SECONDS),
+                x -> x.length() == 4), is(Optional.of("Beta")));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void nonPositiveTimeoutsShouldBeRejected() {
+        TimeoutSpec.deadline(0, TimeUnit.SECONDS);
+    }
+}
@@ -0,0 +1,80 @@
+package com.plexq.functional;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+
+import org.junit.Test;
+
+import com.plexq.functional.Tuple.Tuple2;
+
+import static com.plexq.functional.Functional.*;
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+
+public class TryTest {
+    private static Integer parse(String x) throws Exception {
+        if (x.isEmpty()) {
+            throw new IOException("Empty input");
+        }
+        return Integer.parseInt(x);
+    }
+
+    @Test
+    public void tryOfShouldCaptureSuccess() {
+        Try<Integer> r = Try.of(() -> parse("3"));
+
+        assertTrue(r.isSuccess());
+        assertEquals(Integer.valueOf(3), r.get());
+        assertEquals(Optional.of(3), r.toOptional());
+    }
+
+    @Test
+    public void tryOfShouldCaptureFailure() {
+        Try<Integer> r = Try.of(() -> parse(""));
+
+        assertTrue(r.isFailure());
+        assertThat(r.getException(), instanceOf(IOException.class));
+        assertFalse(r.toOptional().isPresent());
+    }
+
+    @Test(expected = UncheckedExceptionalException.class)
+    public void getOfFailureShouldRethrowWrapped() {
+        Try.of(() -> parse("")).get();
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public void getExceptionOfSuccessShouldThrow() {
+        Try.success(3).getException();
+    }
+
+    @Test
+    public void mapShouldApplyToSuccessAndSkipFailure() {
+        assertEquals(Try.success(4), Try.success(3).map(x -> x + 1));
+        assertTrue(Try.<Integer>failure(new IOException()).map(x -> x + 1).isFailure());
+        assertTrue(Try.success("").map(TryTest::parse).isFailure());
+    }
+
+    @Test
+    public void tryMapShouldKeepGoingAfterAFailure() {
+        List<Try<Integer>> r = tryMap(Arrays.asList("1", "", "x", "4"), TryTest::parse);
+
+        assertEquals(4, r.size());
+        assertEquals(Try.success(1), r.get(0));
+        assertThat(r.get(1).getException(), instanceOf(IOException.class));
+        assertThat(r.get(2).getException(), instanceOf(NumberFormatException.class));
+        assertEquals(Try.success(4), r.get(3));
+    }
+
+    @Test
+    public void partitionMapShouldSplitSuccessesAndFailures() {
+        Tuple2<List<Integer>, List<Tuple2<String, Exception>>> r = partitionMap(Arrays.asList("1", "", "3"), TryTest::parse);
+
+        assertThat(r._1, is(Arrays.asList(1, 3)));
+        assertEquals(1, r._2.size());
+        assertEquals("", r._2.get(0)._1);
+        assertThat(r._2.get(0)._2, instanceOf(IOException.class));
+    }
+}
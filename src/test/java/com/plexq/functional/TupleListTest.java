@@ -0,0 +1,151 @@
+package com.plexq.functional;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.Test;
+
+import com.plexq.functional.Tuple.Tuple2;
+import com.plexq.functional.Tuple.Tuple3;
+
+import static com.plexq.functional.Functional.*;
+import static com.plexq.functional.Tuple.tuple;
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+
+public class TupleListTest {
+    @Test
+    public void zipWithIndexColumnarShouldEqualZipWithIndex() {
+        List<String> v = new LinkedList<>(Arrays.asList("Alpha", "Beta", "Gamma"));
+
+        TupleList2<Integer, String> r = zipWithIndexColumnar(v);
+
+        assertEquals(zipWithIndex(v).collect(Collectors.toList()), r);
+        assertThat(r.column1(), is(Arrays.asList(0, 1, 2)));
+        assertThat(r.column2(), is(v));
+        assertEquals(2, r.column1().getInt(2));
+    }
+
+    @Test
+    public void unzipShouldSplitIntoColumns() {
+        List<Tuple2<String, Integer>> v = Arrays.asList(tuple("a", 1), tuple("b", 2));
+
+        TupleList2<String, Integer> r = unzip(v);
+
+        assertThat(r.column1(), is(Arrays.asList("a", "b")));
+        assertThat(r.column2(), is(Arrays.asList(1, 2)));
+        assertEquals(v, r);
+        assertEquals(v.hashCode(), r.hashCode());
+    }
+
+    @Test
+    public void unzipIntoPrimitiveColumnsShouldReadBackUnboxed() {
+        List<Tuple2<Long, Double>> v = Arrays.asList(tuple(1L, 0.5), tuple(2L, 1.5));
+
+        TupleList2<Long, Double> r = unzip(v, Column.longs(), Column.doubles());
+
+        long longs = 0;
+        double doubles = 0;
+        TupleList2.Cursor<Long, Double> c = r.cursor();
+        while (c.next()) {
+            longs += c.long1();
+            doubles += c.double2();
+        }
+        assertEquals(3L, longs);
+        assertEquals(2.0, doubles, 0);
+        assertFalse(c.next());
+    }
+
+    @Test
+    public void unzip3ShouldSplitIntoThreeColumns() {
+        List<Tuple3<Integer, String, Double>> v = Arrays.asList(tuple(1, "a", 1.0), tuple(2, "b", 2.0));
+
+        TupleList3<Integer, String, Double> r = unzip3(v, Column.ints(), Column.objects(), Column.doubles());
+
+        assertEquals(v, r);
+        assertThat(r.column2(), is(Arrays.asList("a", "b")));
+        TupleList3.Cursor<Integer, String, Double> c = r.cursor();
+        assertTrue(c.next());
+        assertTrue(c.next());
+        assertEquals(1, c.index());
+        assertEquals(2, c.int1());
+        assertEquals("b", c._2());
+        assertEquals(2.0, c.double3(), 0);
+    }
+
+    @Test
+    public void tupleListShouldGrowAndReplaceRows() {
+        TupleList2<Integer, String> r = new TupleList2<>(Column.ints(1), Column.objects(1));
+        List<Tuple2<Integer, String>> expected = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            r.add(i, "x" + i);
+            expected.add(tuple(i, "x" + i));
+        }
+
+        assertEquals(expected, r);
+        assertEquals(tuple(5, "x5"), r.set(5, tuple(-5, "y")));
+        assertEquals(tuple(-5, "y"), r.get(5));
+        assertEquals(-5, r.column1().getInt(5));
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void columnsShouldBeReadOnly() {
+        unzip(Arrays.asList(tuple("a", 1))).column1().add("b");
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void objectColumnsShouldNotReadAsPrimitives() {
+        unzip(Arrays.asList(tuple("a", 1))).cursor().int1();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void columnsOfDifferentSizesShouldBeRejected() {
+        TupleList2<Integer, String> r = new TupleList2<>(Column.ints(), Column.objects());
+        r.add(1, "a");
+        new TupleList2<>(r.column1(), Column.objects());
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void getPastTheEndShouldThrow() {
+        unzip(Arrays.asList(tuple("a", 1))).get(1);
+    }
+
+    @Test
+    public void aRejectedTupleShouldLeaveTheListUnchanged() {
+        TupleList2<String, Integer> r2 = new TupleList2<>(Column.objects(), Column.ints());
+        r2.add("a", 1);
+        TupleList3<String, String, Double> r3 = new TupleList3<>(Column.objects(), Column.objects(), Column.doubles());
+        r3.add("a", "b", 1.0);
+
+        try {
+            r2.add("b", null);
+            fail("Expected add to reject a null int");
+        }
+        catch (NullPointerException e) {
+            assertEquals("Primitive columns do not accept nulls", e.getMessage());
+        }
+        try {
+            r2.set(0, tuple("b", null));
+            fail("Expected set to reject a null int");
+        }
+        catch (NullPointerException e) {
+            assertEquals("Primitive columns do not accept nulls", e.getMessage());
+        }
+        try {
+            r3.add("c", "d", null);
+            fail("Expected add to reject a null double");
+        }
+        catch (NullPointerException e) {
+            assertEquals("Primitive columns do not accept nulls", e.getMessage());
+        }
+
+        assertThat(r2, is(Arrays.asList(tuple("a", 1))));
+        assertEquals(1, r2.column1().size());
+        assertThat(r3, is(Arrays.asList(tuple("a", "b", 1.0))));
+        assertEquals(1, r3.column1().size());
+        assertEquals(1, r3.column2().size());
+    }
+}
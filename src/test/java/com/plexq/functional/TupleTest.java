@@ -1,7 +1,20 @@
 package com.plexq.functional;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Stream;
+
 import org.junit.Test;
 
+import com.plexq.functional.Tuple.Tuple2;
+import com.plexq.functional.Tuple.Tuple3;
+import com.plexq.functional.Tuple.Tuple8;
+
 import static org.junit.Assert.*;
 
 public class TupleTest {
@@ -39,4 +52,85 @@ public class TupleTest {
         assertNotSame(a, b);
         assertEquals(a, b);
     }
+
+    @Test
+    public void tupleHashCodesShouldMatchObjectsHash() {
+        assertEquals(Objects.hash("Value", 3), Tuple.tuple("Value", 3).hashCode());
+        assertEquals(Objects.hash("Value", null, 4L), Tuple.tuple("Value", null, 4L).hashCode());
+        assertEquals(Objects.hash(1, 2, 3, 4, 5, 6, 7, 8), Tuple.tuple(1, 2, 3, 4, 5, 6, 7, 8).hashCode());
+    }
+
+    @Test
+    public void tuple8ShouldBeEqualToSameTuple8() {
+        Tuple8<Integer, String, Integer, Integer, Integer, Integer, Integer, Long> a = Tuple.tuple(1, "2", 3, 4, 5, 6, 7, 8L);
+        Tuple8<Integer, String, Integer, Integer, Integer, Integer, Integer, Long> b = Tuple.tuple(1, "2", 3, 4, 5, 6, 7, 8L);
+
+        assertNotSame(a, b);
+        assertEquals(a, b);
+        assertNotEquals(a, Tuple.tuple(1, "2", 3, 4, 5, 6, 7, 9L));
+        assertEquals("2", a._2);
+        assertEquals(Long.valueOf(8), a._8);
+    }
+
+    @Test
+    public void comparatorShouldOrderLexicographically() {
+        List<Tuple2<String, Integer>> v = new ArrayList<>(Arrays.asList(
+                Tuple.tuple("b", 1), Tuple.tuple("a", 2), Tuple.tuple("a", 1)));
+
+        v.sort(Tuple.comparator(Comparator.<String>naturalOrder(), Comparator.<Integer>naturalOrder()));
+
+        assertEquals(Arrays.asList(Tuple.tuple("a", 1), Tuple.tuple("a", 2), Tuple.tuple("b", 1)), v);
+    }
+
+    @Test
+    public void comparator3ShouldFallThroughToLastComponent() {
+        Comparator<Tuple3<Integer, Integer, Integer>> c = Tuple.comparator(Comparator.<Integer>naturalOrder(),
+                Comparator.<Integer>naturalOrder(), Comparator.<Integer>reverseOrder());
+
+        assertTrue(c.compare(Tuple.tuple(1, 1, 2), Tuple.tuple(1, 1, 1)) < 0);
+        assertEquals(0, c.compare(Tuple.tuple(1, 1, 1), Tuple.tuple(1, 1, 1)));
+    }
+
+    @Test
+    public void unzipShouldSplitPairs() {
+        Tuple2<List<String>, List<Integer>> r = Stream.of(Tuple.tuple("a", 1), Tuple.tuple("b", 2)).collect(Tuple.unzip());
+
+        assertEquals(Arrays.asList("a", "b"), r._1);
+        assertEquals(Arrays.asList(1, 2), r._2);
+    }
+
+    @Test
+    public void unzipShouldKeepOrderInParallel() {
+        List<Tuple2<Integer, Integer>> v = new ArrayList<>();
+        for (int i = 0; i < 10000; i++) {
+            v.add(Tuple.tuple(i, -i));
+        }
+
+        Tuple2<List<Integer>, List<Integer>> r = v.parallelStream().collect(Tuple.unzip());
+
+        assertEquals(Functional.map(v, t -> t._1), r._1);
+        assertEquals(Functional.map(v, t -> t._2), r._2);
+    }
+
+    @Test
+    public void toMapShouldMapFirstToSecond() {
+        Map<String, Integer> r = Stream.of(Tuple.tuple("a", 1), Tuple.tuple("b", 2)).collect(Tuple.toMap());
+
+        assertEquals(2, r.size());
+        assertEquals(Integer.valueOf(2), r.get("b"));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void toMapShouldRejectDuplicateKeys() {
+        Stream.of(Tuple.tuple("a", 1), Tuple.tuple("a", 2)).collect(Tuple.toMap());
+    }
+
+    @Test
+    public void groupingByShouldGroupSecondsByFirst() {
+        Map<String, List<Integer>> r = Stream.of(Tuple.tuple("a", 1), Tuple.tuple("b", 2), Tuple.tuple("a", 3))
+                .collect(Tuple.groupingBy());
+
+        assertEquals(Arrays.asList(1, 3), r.get("a"));
+        assertEquals(Collections.singletonList(2), r.get("b"));
+    }
 }
@@ -0,0 +1,113 @@
+package com.plexq.functional;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.Test;
+
+import static com.plexq.functional.Functional.*;
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+
+public class ViewTest {
+    private static List<String> threeList = Arrays.asList("Alpha", "Beta", "Gamma");
+
+    @Test
+    public void viewWithNoStagesShouldYieldTheSource() {
+        assertThat(view(threeList).toList(), is(threeList));
+    }
+
+    @Test
+    public void viewOfEmptyListShouldYieldEmptyList() {
+        assertTrue(view(Collections.<String>emptyList()).map(String::length).toList().isEmpty());
+    }
+
+    @Test
+    public void chainedStagesShouldMatchNestedCalls() {
+        List<Integer> r = view(threeList).filter(x -> x.contains("a")).map(String::length).toList();
+
+        assertThat(r, is(Functional.map(Functional.filter(threeList, x -> x.contains("a")), String::length)));
+    }
+
+    @Test
+    public void chainedStagesOverLinkedListShouldMatch() {
+        List<Integer> r = view(new LinkedList<>(threeList)).map(String::length).filter(x -> x > 4).toList();
+
+        assertThat(r, is(Arrays.asList(5, 5)));
+    }
+
+    @Test
+    public void flatMapOptionalShouldDropEmptyResults() {
+        List<String> r = view(threeList).flatMapOptional(x -> x.startsWith("B") ? Optional.<String>empty() : Optional.of(x)).toList();
+
+        assertThat(r, is(Arrays.asList("Alpha", "Gamma")));
+    }
+
+    @Test
+    public void stagesShouldBeAppliedInASinglePass() {
+        List<String> calls = new ArrayList<>();
+
+        view(threeList).map(x -> { calls.add("map " + x); return x; })
+                .filter(x -> { calls.add("filter " + x); return true; })
+                .toList();
+
+        assertThat(calls, is(Arrays.asList("map Alpha", "filter Alpha", "map Beta", "filter Beta", "map Gamma", "filter Gamma")));
+    }
+
+    @Test
+    public void takeShouldStopTraversingTheSource() {
+        List<String> seen = new ArrayList<>();
+
+        List<String> r = view(threeList).map(x -> { seen.add(x); return x; }).take(2).toList();
+
+        assertThat(r, is(Arrays.asList("Alpha", "Beta")));
+        assertThat(seen, is(Arrays.asList("Alpha", "Beta")));
+    }
+
+    @Test
+    public void takeZeroShouldNotApplyAnyStage() {
+        List<String> seen = new ArrayList<>();
+
+        List<String> r = view(threeList).map(x -> { seen.add(x); return x; }).take(0).toList();
+
+        assertTrue(r.isEmpty());
+        assertTrue(seen.isEmpty());
+    }
+
+    @Test
+    public void findShouldReturnFirstMatchAndStop() {
+        List<String> seen = new ArrayList<>();
+
+        Optional<Integer> r = view(threeList).map(x -> { seen.add(x); return x.length(); }).find(x -> x == 4);
+
+        assertEquals(Optional.of(4), r);
+        assertThat(seen, is(Arrays.asList("Alpha", "Beta")));
+    }
+
+    @Test
+    public void findWithNoMatchShouldReturnEmpty() {
+        assertFalse(view(threeList).find(x -> x.isEmpty()).isPresent());
+    }
+
+    @Test
+    public void viewShouldBeReusable() {
+        View<String> v = view(threeList).take(1);
+
+        assertThat(v.toList(), is(v.toList()));
+    }
+
+    @Test(expected = RuntimeException.class)
+    public void eMapShouldRecastException() {
+        view(threeList).eMap(x -> { throw new IOException("Test Exception"); }).toList();
+    }
+
+    @Test(expected = RuntimeException.class)
+    public void eFindShouldRecastException() {
+        view(threeList).eFind(x -> { throw new IOException("Test Exception"); });
+    }
+}
@@ -0,0 +1,114 @@
+package com.plexq.functional;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.junit.Test;
+
+import static com.plexq.functional.Functional.*;
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+
+public class WindowsTest {
+    private static List<Integer> range(int n) {
+        return IntStream.range(0, n).boxed().collect(Collectors.toList());
+    }
+
+    /**
+     * Windows built the obvious way, copying.
+     */
+    private static List<List<Integer>> reference(List<Integer> v, int size, int step) {
+        List<List<Integer>> r = new ArrayList<>();
+        for (int start = 0; start < v.size(); start += step) {
+            r.add(new ArrayList<>(v.subList(start, Math.min(v.size(), start + size))));
+            if (start + size >= v.size()) {
+                break;
+            }
+        }
+        return r;
+    }
+
+    @Test
+    public void slidingShouldMatchTheReferenceForEveryShape() {
+        for (int n = 0; n <= 12; n++) {
+            List<Integer> v = range(n);
+            for (int size = 1; size <= 5; size++) {
+                for (int step = 1; step <= 6; step++) {
+                    List<List<Integer>> expected = reference(v, size, step);
+                    String shape = "n=" + n + " size=" + size + " step=" + step;
+                    assertEquals(shape, expected, sliding(v, size, step));
+                    assertEquals(shape, expected, sliding(new LinkedList<>(v), size, step));
+                    assertEquals(shape, expected, sliding(v.stream(), size, step).collect(Collectors.toList()));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void groupedShouldCutIntoGroups() {
+        assertThat(grouped(Arrays.asList(1, 2, 3, 4, 5), 2),
+                is(Arrays.asList(Arrays.asList(1, 2), Arrays.asList(3, 4), Arrays.asList(5))));
+        assertTrue(grouped(Collections.<Integer>emptyList(), 3).isEmpty());
+    }
+
+    @Test
+    public void groupedOverARandomAccessListShouldBeAView() {
+        List<Integer> v = range(6);
+        List<List<Integer>> groups = grouped(v, 4);
+
+        v.set(5, 50);
+
+        assertThat(groups.get(1), is(Arrays.asList(4, 50)));
+    }
+
+    @Test
+    public void chunkedShouldCutAStreamIntoChunks() {
+        List<List<Integer>> r = chunked(Stream.of(1, 2, 3, 4, 5), 2).collect(Collectors.toList());
+
+        assertThat(r, is(Arrays.asList(Arrays.asList(1, 2), Arrays.asList(3, 4), Arrays.asList(5))));
+    }
+
+    @Test
+    public void chunkedShouldBeLazy() {
+        List<List<Integer>> r = chunked(Stream.iterate(0, x -> x + 1), 3).limit(2).collect(Collectors.toList());
+
+        assertThat(r, is(Arrays.asList(Arrays.asList(0, 1, 2), Arrays.asList(3, 4, 5))));
+    }
+
+    @Test
+    public void parallelStreamsOfWindowsShouldKeepOrder() {
+        List<Integer> v = range(100000);
+
+        assertEquals(reference(v, 7, 3), sliding(v.parallelStream(), 7, 3).collect(Collectors.toList()));
+        assertEquals(reference(v, 7, 3), sliding(v, 7, 3).parallelStream().collect(Collectors.toList()));
+        assertEquals(100000, grouped(v, 10).parallelStream().mapToInt(List::size).sum());
+    }
+
+    @Test
+    public void windowListSpliteratorShouldSplitInHalves() {
+        List<List<Integer>> windows = grouped(range(100), 10);
+
+        assertEquals(5, windows.spliterator().trySplit().estimateSize());
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void windowPastTheEndShouldThrow() {
+        grouped(range(10), 5).get(2);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void nonPositiveSizeShouldBeRejected() {
+        grouped(range(10), 0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void nonPositiveStepShouldBeRejected() {
+        sliding(Stream.of(1), 1, 0);
+    }
+}
@@ -1,14 +1,23 @@
 package com.plexq.functional;
 
+import java.util.AbstractSequentialList;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.LinkedList;
 import java.util.List;
+import java.util.ListIterator;
+import java.util.Spliterator;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 import org.junit.Test;
 import static com.plexq.functional.Functional.*;
 
+import com.plexq.functional.Tuple.IntObjTuple;
 import com.plexq.functional.Tuple.Tuple2;
+import com.plexq.functional.Tuple.Tuple3;
 import static org.junit.Assert.*;
 
 public class ZipWithIndexTest {
@@ -45,4 +54,150 @@ public class ZipWithIndexTest {
         assertEquals(Tuple.tuple(1, "Beta"), r.get(1));
         assertEquals(Tuple.tuple(2, "Gamma"), r.get(2));
     }
+
+    @Test
+    public void testForEachWithIndexShouldPassEachIndex() {
+        List<String> l = Arrays.asList("Alpha", "Beta", "Gamma");
+        List<String> r = new ArrayList<>();
+
+        forEachWithIndex(l, (x, i) -> r.add(i + x));
+
+        assertEquals(Arrays.asList("0Alpha", "1Beta", "2Gamma"), r);
+    }
+
+    @Test
+    public void testForEachWithIndexForLinkedListShouldPassEachIndex() {
+        List<String> l = new LinkedList<>(Arrays.asList("Alpha", "Beta", "Gamma"));
+        List<String> r = new ArrayList<>();
+
+        forEachWithIndex(l, (x, i) -> r.add(i + x));
+
+        assertEquals(Arrays.asList("0Alpha", "1Beta", "2Gamma"), r);
+    }
+
+    @Test
+    public void testMapWithIndexForEmptyShouldYieldEmptyList() {
+        List<String> l = Collections.emptyList();
+
+        assertEquals(0, mapWithIndex(l, (i, x) -> i + x).size());
+    }
+
+    @Test
+    public void testMapWithIndexForMultiElementList() {
+        List<String> l = Arrays.asList("Alpha", "Beta", "Gamma");
+
+        List<String> r = mapWithIndex(l, (i, x) -> x + i);
+
+        assertEquals(Arrays.asList("Alpha0", "Beta1", "Gamma2"), r);
+    }
+
+    @Test
+    public void testZipWithIntIndexShouldMatchZipWithIndex() {
+        List<String> l = Arrays.asList("Alpha", "Beta", "Gamma");
+
+        List<IntObjTuple<String>> r = zipWithIntIndex(l);
+        List<Tuple2<Integer, String>> expected = zipWithIndex(l).collect(Collectors.toList());
+
+        assertEquals(3, r.size());
+        for (int i = 0; i < 3; i++) {
+            assertEquals(expected.get(i)._1.intValue(), r.get(i)._1);
+            assertEquals(expected.get(i)._2, r.get(i)._2);
+        }
+        assertEquals(Tuple.intTuple(1, "Beta"), r.get(1));
+    }
+
+    /**
+     * A sequential list that only supports iteration, so any use of get fails.
+     */
+    private static <A> List<A> iterationOnly(List<A> v) {
+        return new AbstractSequentialList<A>() {
+            @Override
+            public ListIterator<A> listIterator(int index) {
+                return v.listIterator(index);
+            }
+
+            @Override
+            public A get(int index) {
+                throw new UnsupportedOperationException("get");
+            }
+
+            @Override
+            public int size() {
+                return v.size();
+            }
+        };
+    }
+
+    private static List<Integer> range(int n) {
+        return IntStream.range(0, n).boxed().collect(Collectors.toList());
+    }
+
+    @Test
+    public void testZipWithIndexForSequentialListShouldNotUseGet() {
+        List<String> l = iterationOnly(Arrays.asList("Alpha", "Beta", "Gamma"));
+
+        List<Tuple2<Integer, String>> r = zipWithIndex(l).collect(Collectors.toList());
+
+        assertEquals(Arrays.asList(Tuple.tuple(0, "Alpha"), Tuple.tuple(1, "Beta"), Tuple.tuple(2, "Gamma")), r);
+    }
+
+    @Test
+    public void testZipWithIndexShouldBeSizedAndSplitInParallel() {
+        List<Integer> expected = range(100000);
+
+        for (List<Integer> l : Arrays.asList(expected, new LinkedList<>(expected))) {
+            Spliterator<Tuple2<Integer, Integer>> s = zipWithIndex(l).spliterator();
+            assertTrue(s.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED));
+            assertEquals(100000, s.estimateSize());
+
+            List<Tuple2<Integer, Integer>> r = zipWithIndex(l).parallel().collect(Collectors.toList());
+            for (int i = 0; i < r.size(); i++) {
+                assertEquals(i, r.get(i)._1.intValue());
+                assertEquals(i, r.get(i)._2.intValue());
+            }
+        }
+    }
+
+    @Test
+    public void testZipWithIndexForStreamShouldIndexInOrder() {
+        List<Tuple2<Integer, String>> r = zipWithIndex(Stream.of("Alpha", "Beta")).collect(Collectors.toList());
+        assertEquals(Arrays.asList(Tuple.tuple(0, "Alpha"), Tuple.tuple(1, "Beta")), r);
+
+        List<Tuple2<Integer, Integer>> p = zipWithIndex(range(100000).parallelStream()).collect(Collectors.toList());
+        for (int i = 0; i < p.size(); i++) {
+            assertEquals(p.get(i)._1, p.get(i)._2);
+        }
+    }
+
+    @Test
+    public void testZipShouldStopAtTheShorterList() {
+        List<Tuple2<String, Integer>> expected = Arrays.asList(Tuple.tuple("a", 1), Tuple.tuple("b", 2));
+
+        assertEquals(expected, zip(Arrays.asList("a", "b", "c"), Arrays.asList(1, 2)).collect(Collectors.toList()));
+        assertEquals(expected, zip(iterationOnly(Arrays.asList("a", "b", "c")), new LinkedList<>(Arrays.asList(1, 2)))
+                .collect(Collectors.toList()));
+    }
+
+    @Test
+    public void testZip3ShouldPairByPosition() {
+        List<Tuple3<String, Integer, Boolean>> expected = Arrays.asList(Tuple.tuple("a", 1, true));
+
+        assertEquals(expected, zip3(Arrays.asList("a", "b"), Arrays.asList(1), Arrays.asList(true, false))
+                .collect(Collectors.toList()));
+        assertEquals(expected, zip3(new LinkedList<>(Arrays.asList("a", "b")), Arrays.asList(1),
+                Arrays.asList(true, false)).collect(Collectors.toList()));
+    }
+
+    @Test
+    public void testZipShouldBeSizedAndSplitInParallel() {
+        List<Integer> v = range(100000);
+
+        for (Stream<Tuple2<Integer, Integer>> s : Arrays.asList(zip(v, v), zip(new LinkedList<>(v), v))) {
+            Spliterator<Tuple2<Integer, Integer>> split = s.spliterator();
+            assertTrue(split.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED));
+            assertEquals(100000, split.estimateSize());
+        }
+        assertEquals(zip(v, v).collect(Collectors.toList()),
+                zip(new LinkedList<>(v), v).parallel().collect(Collectors.toList()));
+    }
 }
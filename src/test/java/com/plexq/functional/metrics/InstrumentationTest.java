@@ -0,0 +1,150 @@
+package com.plexq.functional.metrics;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.List;
+
+import javax.management.MBeanServer;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.plexq.functional.ExceptionalFunction;
+import com.plexq.functional.Functional;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+
+public class InstrumentationTest {
+    private MetricsSink previous;
+    private InMemoryMetricsSink sink;
+
+    @Before
+    public void setUp() {
+        previous = Instrumentation.getSink();
+        sink = new InMemoryMetricsSink();
+        Instrumentation.setSink(sink);
+    }
+
+    @After
+    public void tearDown() {
+        Instrumentation.setSink(previous);
+    }
+
+    private static Integer parse(String x) throws Exception {
+        if (x.isEmpty()) {
+            throw new IOException("Empty input");
+        }
+        return Integer.parseInt(x);
+    }
+
+    @Test
+    public void instrumentedFunctionShouldCountCallsAndFailuresByType() {
+        ExceptionalFunction<String, Integer> f = Functional.instrumented("parse", InstrumentationTest::parse);
+
+        assertThat(Functional.eMap(Arrays.asList("1", "2"), f), is(Arrays.asList(1, 2)));
+        for (String bad : Arrays.asList("", "x", "")) {
+            try {
+                f.apply(bad);
+                fail("Expected parse to throw");
+            }
+            catch (RuntimeException e) {
+                // Expected
+            }
+        }
+
+        CallStats stats = sink.get("parse");
+        assertEquals(5, stats.getCalls());
+        assertEquals(3, stats.getFailures());
+        assertEquals(Long.valueOf(2), stats.getFailuresByType().get(IOException.class.getName()));
+        assertEquals(Long.valueOf(1), stats.getFailuresByType().get(NumberFormatException.class.getName()));
+    }
+
+    @Test
+    public void instrumentedFunctionShouldRethrowTheOriginalException() throws Exception {
+        ExceptionalFunction<String, Integer> f = Functional.instrumented("parse", InstrumentationTest::parse);
+
+        try {
+            f.f("");
+            fail("Expected parse to throw");
+        }
+        catch (IOException e) {
+            assertEquals("Empty input", e.getMessage());
+        }
+    }
+
+    @Test
+    public void everyWrapperShouldRecord() {
+        Functional.instrumentedC("consumer", (String x) -> { }).accept("x");
+        Functional.instrumentedBiC("biConsumer", (String x, String y) -> { }).accept("x", "y");
+        Functional.instrumentedP("predicate", (String x) -> true).test("x");
+        Functional.instrumentedS("supplier", () -> "x").get();
+        Functional.instrumentedR("runnable", () -> { }).run();
+
+        for (String name : Arrays.asList("consumer", "biConsumer", "predicate", "supplier", "runnable")) {
+            assertEquals(name, 1, sink.get(name).getCalls());
+        }
+    }
+
+    @Test
+    public void disabledInstrumentationShouldRecordNothing() {
+        ExceptionalFunction<String, Integer> f = Functional.instrumented("parse", InstrumentationTest::parse);
+        Instrumentation.disable();
+
+        assertEquals(Integer.valueOf(3), f.apply("3"));
+
+        assertNull(sink.get("parse"));
+    }
+
+    @Test
+    public void changingTheSinkShouldRedirectExistingWrappers() {
+        ExceptionalFunction<String, Integer> f = Functional.instrumented("parse", InstrumentationTest::parse);
+        f.apply("1");
+        InMemoryMetricsSink other = new InMemoryMetricsSink();
+        Instrumentation.setSink(other);
+        f.apply("2");
+
+        assertEquals(1, sink.get("parse").getCalls());
+        assertEquals(1, other.get("parse").getCalls());
+    }
+
+    @Test
+    public void jmxSinkShouldExposeStatsAsAnMXBean() throws Exception {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        Instrumentation.setSink(new JmxMetricsSink(server));
+
+        Functional.instrumented("jmx parse", InstrumentationTest::parse).apply("1");
+
+        assertEquals(1L, server.getAttribute(JmxMetricsSink.objectName("jmx parse"), "Calls"));
+        server.unregisterMBean(JmxMetricsSink.objectName("jmx parse"));
+    }
+
+    @Test
+    public void histogramQuantilesShouldBeWithinAQuarterOfTheTruth() {
+        LogHistogram h = new LogHistogram();
+        for (long v = 1; v <= 100000; v++) {
+            h.record(v);
+        }
+
+        assertEquals(100000, h.count());
+        assertEquals(100000, h.max());
+        for (double q : Arrays.asList(0.5, 0.9, 0.99)) {
+            long truth = (long) (q * 100000);
+            assertThat(h.quantile(q), allOf(greaterThanOrEqualTo(truth), lessThanOrEqualTo((long) (truth * 1.25))));
+        }
+    }
+
+    @Test
+    public void histogramBucketsShouldCoverTheirValues() {
+        List<Long> values = Arrays.asList(0L, 1L, 3L, 4L, 5L, 7L, 8L, 1000L, 123456789L, Long.MAX_VALUE);
+        for (long v : values) {
+            int b = LogHistogram.bucket(v);
+            assertThat(v, lessThanOrEqualTo(LogHistogram.upperBound(b)));
+            if (b > 0) {
+                assertThat(v, greaterThan(LogHistogram.upperBound(b - 1)));
+            }
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package com.plexq.functional.persistent;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.Test;
+
+import com.plexq.functional.Functional;
+
+import static org.junit.Assert.*;
+
+public class PMapTest {
+    /**
+     * A key whose hash is chosen by the test, to force collisions.
+     */
+    private static final class Key {
+        final int id;
+        final int hash;
+
+        Key(int id, int hash) {
+            this.id = id;
+            this.hash = hash;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Key && ((Key) o).id == id;
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    @Test
+    public void plusShouldAddWithoutChangingTheOriginal() {
+        PMap<String, Integer> a = PMap.<String, Integer>empty().plus("Alpha", 1);
+        PMap<String, Integer> b = a.plus("Beta", 2);
+
+        assertEquals(1, a.size());
+        assertNull(a.get("Beta"));
+        assertEquals(2, b.size());
+        assertEquals(Integer.valueOf(2), b.get("Beta"));
+    }
+
+    @Test
+    public void randomOperationsShouldMatchHashMap() {
+        Random random = new Random(7);
+        PMap<Integer, Integer> m = PMap.empty();
+        Map<Integer, Integer> expected = new HashMap<>();
+        for (int n = 0; n < 50000; n++) {
+            int k = random.nextInt(5000);
+            if (random.nextInt(3) == 0) {
+                m = m.minus(k);
+                expected.remove(k);
+            }
+            else {
+                m = m.plus(k, n);
+                expected.put(k, n);
+            }
+        }
+
+        assertEquals(expected.size(), m.size());
+        assertEquals(expected, m);
+        assertEquals(m, expected);
+    }
+
+    @Test
+    public void collidingKeysShouldBeKeptApart() {
+        Key a = new Key(1, 42);
+        Key b = new Key(2, 42);
+        Key c = new Key(3, 42 + (1 << 20));
+
+        PMap<Key, String> m = PMap.<Key, String>empty().plus(a, "a").plus(b, "b").plus(c, "c");
+
+        assertEquals(3, m.size());
+        assertEquals("a", m.get(a));
+        assertEquals("b", m.get(b));
+        assertEquals("c", m.get(c));
+
+        PMap<Key, String> removed = m.minus(a);
+        assertEquals(2, removed.size());
+        assertFalse(removed.containsKey(a));
+        assertEquals("b", removed.get(b));
+        assertEquals(0, removed.minus(b).minus(c).size());
+    }
+
+    @Test
+    public void nullValuesShouldBeDistinguishedFromAbsentKeys() {
+        PMap<String, String> m = PMap.<String, String>empty().plus("Alpha", null);
+
+        assertTrue(m.containsKey("Alpha"));
+        assertFalse(m.containsKey("Beta"));
+    }
+
+    @Test
+    public void replacingWithTheSameValueShouldReturnTheSameMap() {
+        Integer one = 1;
+        PMap<String, Integer> m = PMap.<String, Integer>empty().plus("Alpha", one);
+
+        assertSame(m, m.plus("Alpha", one));
+        assertSame(m, m.minus("Beta"));
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void nullKeysShouldBeRejected() {
+        PMap.empty().plus(null, 1);
+    }
+
+    @Test
+    public void mapValuesShouldTransformEveryValue() {
+        PMap<String, String> m = PMap.<String, String>empty().plus("a", "Alpha").plus("b", "Beta");
+
+        PMap<String, Integer> r = Functional.mapValues(m, String::length);
+
+        assertEquals(Integer.valueOf(5), r.get("a"));
+        assertEquals(Integer.valueOf(4), r.get("b"));
+    }
+
+    @Test
+    public void mapValuesShouldKeepEveryKeyIncludingCollisions() {
+        PMap<Key, Integer> m = PMap.empty();
+        Map<Key, Integer> expected = new HashMap<>();
+        for (int i = 0; i < 5000; i++) {
+            // Every fourth key collides with its neighbour
+            Key k = new Key(i, i % 4 == 0 ? i + 1 : i);
+            m = m.plus(k, i);
+            expected.put(k, i * 2);
+        }
+
+        PMap<Key, Integer> r = m.mapValues(x -> x * 2);
+
+        assertEquals(expected, r);
+        assertEquals(Integer.valueOf(10), m.get(new Key(10, 10)));
+        assertEquals(Integer.valueOf(20), r.get(new Key(10, 10)));
+        assertEquals(r, r.minus(new Key(5000, 5000)));
+        assertEquals(4999, r.minus(new Key(8, 9)).size());
+        assertTrue(PMap.<String, Integer>empty().mapValues(x -> x * 2).isEmpty());
+    }
+}
@@ -0,0 +1,97 @@
+package com.plexq.functional.persistent;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.Test;
+
+import com.plexq.functional.Functional;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+
+public class PVectorTest {
+    @Test
+    public void emptyVectorShouldHaveNoElements() {
+        assertTrue(PVector.empty().isEmpty());
+        assertFalse(PVector.empty().iterator().hasNext());
+    }
+
+    @Test
+    public void plusShouldAppendWithoutChangingTheOriginal() {
+        PVector<String> a = PVector.of("Alpha", "Beta");
+        PVector<String> b = a.plus("Gamma");
+
+        assertEquals(Arrays.asList("Alpha", "Beta"), a);
+        assertEquals(Arrays.asList("Alpha", "Beta", "Gamma"), b);
+    }
+
+    @Test
+    public void appendsShouldMatchArrayListAcrossTrieLevels() {
+        PVector<Integer> v = PVector.empty();
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < 40000; i++) {
+            v = v.plus(i);
+            expected.add(i);
+        }
+
+        assertEquals(expected.size(), v.size());
+        assertEquals(expected, v);
+        assertEquals(Integer.valueOf(33000), v.get(33000));
+    }
+
+    @Test
+    public void builderShouldMatchRepeatedPlus() {
+        List<Integer> expected = IntStream.range(0, 40000).boxed().collect(Collectors.toList());
+
+        assertEquals(expected, PVector.from(expected));
+        assertEquals(expected, expected.parallelStream().collect(PVector.collector()));
+    }
+
+    @Test
+    public void withShouldUpdateOneSlotAndShareTheRest() {
+        List<Integer> expected = IntStream.range(0, 5000).boxed().collect(Collectors.toList());
+        PVector<Integer> original = PVector.from(expected);
+        PVector<Integer> v = original;
+        Random random = new Random(42);
+        for (int n = 0; n < 2000; n++) {
+            int i = random.nextInt(expected.size());
+            v = v.with(i, -n);
+            expected.set(i, -n);
+        }
+
+        assertEquals(expected, v);
+        assertEquals(IntStream.range(0, 5000).boxed().collect(Collectors.toList()), original);
+    }
+
+    @Test
+    public void withAtSizeShouldAppend() {
+        assertEquals(Arrays.asList("Alpha", "Beta"), PVector.of("Alpha").with(1, "Beta"));
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void getOutOfRangeShouldThrow() {
+        PVector.of("Alpha").get(1);
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void javaUtilMutatorsShouldBeUnsupported() {
+        PVector.of("Alpha").add("Beta");
+    }
+
+    @Test
+    public void functionalMapAndFilterShouldReturnVectors() {
+        PVector<String> v = PVector.of("Alpha", "Beta", "Gamma");
+
+        PVector<Integer> lengths = Functional.map(v, String::length);
+        PVector<String> filtered = Functional.filter(v, x -> x.contains("e"));
+
+        assertThat(lengths, is(Arrays.asList(5, 4, 5)));
+        assertThat(filtered, is(Arrays.asList("Beta")));
+        assertEquals(Arrays.asList(5, 4, 5, 3), lengths.plus(3));
+    }
+}